@@ -0,0 +1,72 @@
+package com.momo.momo_backend.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서버용 단순 서킷 브레이커.
+ * CLOSED: 연속 실패가 임계치에 닿으면 OPEN
+ * OPEN: 지정 시간 동안 모든 호출 즉시 거절
+ * HALF_OPEN: 시간이 지나면 시험 호출 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+@Slf4j
+@Component
+public class AiCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(0);      // 0이면 CLOSED
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+
+    public AiCircuitBreaker(AiProperties props, MeterRegistry meterRegistry) {
+        this.failureThreshold = props.getHttp().getBreakerFailureThreshold();
+        this.openDurationMs = props.getHttp().getBreakerOpenDuration().toMillis();
+        Gauge.builder("ai.http.circuit.open", this, b -> b.isOpen() ? 1 : 0)
+                .description("AI 서버 서킷 OPEN 여부")
+                .register(meterRegistry);
+    }
+
+    /** 이번 호출을 보내도 되는지 */
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened == 0) return true;
+        if (System.currentTimeMillis() - opened < openDurationMs) return false;
+        // HALF_OPEN: 시험 호출은 한 번에 하나만
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt.getAndSet(0) != 0) {
+            log.info("AI 서버 서킷 CLOSED");
+        }
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        boolean trial = trialInFlight.getAndSet(false);
+        if (trial || failures >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+            log.warn("AI 서버 서킷 OPEN (연속 실패 {}회)", failures);
+        }
+    }
+
+    /** 성공/실패 판정 없이 시험 호출 슬롯만 반납 (4xx 등) */
+    public void release() {
+        trialInFlight.set(false);
+    }
+
+    public boolean isOpen() {
+        long opened = openedAt.get();
+        return opened != 0 && System.currentTimeMillis() - opened < openDurationMs;
+    }
+}
@@ -0,0 +1,51 @@
+package com.momo.momo_backend.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** AI 서버 호출 지연시간을 엔드포인트별 히스토그램으로 기록 */
+@Component
+@RequiredArgsConstructor
+public class AiHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            Timer.builder("ai.http.client.requests")
+                    .tag("endpoint", endpointOf(request.getURI().getPath()))
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // "/task-status/{id}" 처럼 ID가 붙는 경로는 첫 세그먼트만 태그로 사용 (태그 카디널리티 제한)
+    private String endpointOf(String path) {
+        if (path == null) return "unknown";
+        String[] segments = path.split("/");
+        for (String seg : segments) {
+            if (!seg.isEmpty()) return seg;
+        }
+        return "root";
+    }
+}
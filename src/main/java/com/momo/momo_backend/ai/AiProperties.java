@@ -0,0 +1,128 @@
+package com.momo.momo_backend.ai;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/** AI 서버 연동 설정 (ai.*) */
+@ConfigurationProperties(prefix = "ai")
+public class AiProperties {
+    private Poll poll = new Poll();
+    private Cache cache = new Cache();
+    private Http http = new Http();
+
+    public Poll getPoll() { return poll; }
+    public void setPoll(Poll poll) { this.poll = poll; }
+
+    public Cache getCache() { return cache; }
+    public void setCache(Cache cache) { this.cache = cache; }
+
+    public Http getHttp() { return http; }
+    public void setHttp(Http http) { this.http = http; }
+
+    /** task-status 폴링 설정: 처음엔 촘촘히, 오래 걸리는 작업일수록 느슨하게 */
+    public static class Poll {
+        private long initialDelayMs = 1_000;
+        private long maxDelayMs = 10_000;
+        private double backoffMultiplier = 1.5;
+        private long timeoutMs = 120_000;
+        private int workers = 8;             // 동시에 나가는 상태 조회 요청 수 상한
+        private int workerQueueCapacity = 1_000;
+
+        public long getInitialDelayMs() { return initialDelayMs; }
+        public void setInitialDelayMs(long initialDelayMs) { this.initialDelayMs = initialDelayMs; }
+
+        public long getMaxDelayMs() { return maxDelayMs; }
+        public void setMaxDelayMs(long maxDelayMs) { this.maxDelayMs = maxDelayMs; }
+
+        public double getBackoffMultiplier() { return backoffMultiplier; }
+        public void setBackoffMultiplier(double backoffMultiplier) { this.backoffMultiplier = backoffMultiplier; }
+
+        public long getTimeoutMs() { return timeoutMs; }
+        public void setTimeoutMs(long timeoutMs) { this.timeoutMs = timeoutMs; }
+
+        public int getWorkers() { return workers; }
+        public void setWorkers(int workers) { this.workers = workers; }
+
+        public int getWorkerQueueCapacity() { return workerQueueCapacity; }
+        public void setWorkerQueueCapacity(int workerQueueCapacity) { this.workerQueueCapacity = workerQueueCapacity; }
+    }
+
+    /** URL 단위 AI 요약 결과 캐시 설정 */
+    public static class Cache {
+        private boolean enabled = true;
+        private long maxSize = 10_000;           // 로컬(힙) 캐시 최대 항목 수
+        private Duration ttl = Duration.ofHours(6);
+        private boolean redisEnabled = true;     // 노드 간 공유용 Redis 2차 캐시
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public boolean isRedisEnabled() { return redisEnabled; }
+        public void setRedisEnabled(boolean redisEnabled) { this.redisEnabled = redisEnabled; }
+    }
+
+    /** AI 서버용 HTTP 클라이언트 설정: 커넥션 풀, 타임아웃, 재시도, 서킷 브레이커 */
+    public static class Http {
+        private int maxConnTotal = 100;
+        private int maxConnPerRoute = 50;        // AI 서버는 단일 호스트라 사실상 이 값이 상한
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration responseTimeout = Duration.ofSeconds(10);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(2); // 풀에서 커넥션 대기
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration connectionTtl = Duration.ofMinutes(5);
+
+        private int maxAttempts = 3;             // 작업 등록 재시도 (첫 시도 포함)
+        private Duration retryBackoff = Duration.ofMillis(200);
+        private Duration retryMaxBackoff = Duration.ofSeconds(2);
+
+        private int breakerFailureThreshold = 5; // 연속 실패 시 OPEN
+        private Duration breakerOpenDuration = Duration.ofSeconds(30);
+
+        public int getMaxConnTotal() { return maxConnTotal; }
+        public void setMaxConnTotal(int maxConnTotal) { this.maxConnTotal = maxConnTotal; }
+
+        public int getMaxConnPerRoute() { return maxConnPerRoute; }
+        public void setMaxConnPerRoute(int maxConnPerRoute) { this.maxConnPerRoute = maxConnPerRoute; }
+
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+
+        public Duration getResponseTimeout() { return responseTimeout; }
+        public void setResponseTimeout(Duration responseTimeout) { this.responseTimeout = responseTimeout; }
+
+        public Duration getConnectionRequestTimeout() { return connectionRequestTimeout; }
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) { this.connectionRequestTimeout = connectionRequestTimeout; }
+
+        public Duration getIdleTimeout() { return idleTimeout; }
+        public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+        public Duration getConnectionTtl() { return connectionTtl; }
+        public void setConnectionTtl(Duration connectionTtl) { this.connectionTtl = connectionTtl; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public Duration getRetryBackoff() { return retryBackoff; }
+        public void setRetryBackoff(Duration retryBackoff) { this.retryBackoff = retryBackoff; }
+
+        public Duration getRetryMaxBackoff() { return retryMaxBackoff; }
+        public void setRetryMaxBackoff(Duration retryMaxBackoff) { this.retryMaxBackoff = retryMaxBackoff; }
+
+        public int getBreakerFailureThreshold() { return breakerFailureThreshold; }
+        public void setBreakerFailureThreshold(int breakerFailureThreshold) { this.breakerFailureThreshold = breakerFailureThreshold; }
+
+        public Duration getBreakerOpenDuration() { return breakerOpenDuration; }
+        public void setBreakerOpenDuration(Duration breakerOpenDuration) { this.breakerOpenDuration = breakerOpenDuration; }
+    }
+}
@@ -0,0 +1,170 @@
+package com.momo.momo_backend.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.momo.momo_backend.dto.ai.AiResultResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 정규화된 URL 기준 AI 요약 결과 캐시.
+ * 1차: 로컬 Caffeine, 2차: Redis(선택). 같은 URL 동시 요청은 하나의 AI 작업을 공유한다.
+ */
+@Slf4j
+@Component
+public class AiSummaryCache {
+
+    private static final String REDIS_KEY_PREFIX = "AI:SUMMARY:";
+
+    private final AiProperties.Cache conf;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, AiResultResponseDto.ResultData> local;
+    private final Map<String, CompletableFuture<AiResultResponseDto.ResultData>> inFlight = new ConcurrentHashMap<>();
+
+    public AiSummaryCache(AiProperties props, StringRedisTemplate stringRedisTemplate,
+                          ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.conf = props.getCache();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(conf.getMaxSize())
+                .expireAfterWrite(conf.getTtl())
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 즉시 완료된 future, 같은 URL 작업이 진행 중이면 그 future를 반환.
+     * 둘 다 아니면 loader로 AI 작업을 새로 시작한다. (loader 자체 예외는 호출자에게 그대로 전달)
+     */
+    public CompletableFuture<AiResultResponseDto.ResultData> getOrLoad(
+            String url, Supplier<CompletableFuture<AiResultResponseDto.ResultData>> loader) {
+        if (!conf.isEnabled()) {
+            return loader.get();
+        }
+        String key = normalize(url);
+
+        AiResultResponseDto.ResultData hit = local.getIfPresent(key);
+        if (hit != null) {
+            count("hit_local");
+            return CompletableFuture.completedFuture(hit);
+        }
+        hit = readRedis(key);
+        if (hit != null) {
+            count("hit_redis");
+            local.put(key, hit);
+            return CompletableFuture.completedFuture(hit);
+        }
+
+        CompletableFuture<AiResultResponseDto.ResultData> created = new CompletableFuture<>();
+        CompletableFuture<AiResultResponseDto.ResultData> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            count("coalesced");
+            return existing;
+        }
+        count("miss");
+
+        try {
+            loader.get().whenComplete((result, ex) -> {
+                // 캐시에 먼저 넣고 진행 중 표시를 지워야 그 사이 요청이 AI를 다시 호출하지 않음
+                if (ex == null && result != null) {
+                    local.put(key, result);
+                    writeRedis(key, result);
+                }
+                inFlight.remove(key, created);
+                if (ex != null) {
+                    created.completeExceptionally(ex);
+                } else {
+                    created.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+        return created;
+    }
+
+    /** 캐시 키용 URL 정규화: 스킴/호스트 소문자, fragment·utm 파라미터·끝 슬래시 제거 */
+    static String normalize(String url) {
+        if (!StringUtils.hasText(url)) return "";
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) return trimmed;
+
+            String path = uri.getRawPath();
+            if (path == null || path.isEmpty()) path = "/";
+            if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+            String query = uri.getRawQuery();
+            if (query != null) {
+                query = Arrays.stream(query.split("&"))
+                        .filter(p -> !p.isEmpty() && !p.toLowerCase(Locale.ROOT).startsWith("utm_"))
+                        .sorted()
+                        .collect(Collectors.joining("&"));
+            }
+
+            StringBuilder sb = new StringBuilder()
+                    .append(uri.getScheme().toLowerCase(Locale.ROOT)).append("://")
+                    .append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (uri.getPort() != -1) sb.append(':').append(uri.getPort());
+            sb.append(path);
+            if (StringUtils.hasText(query)) sb.append('?').append(query);
+            return sb.toString();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+
+    private AiResultResponseDto.ResultData readRedis(String key) {
+        if (!conf.isRedisEnabled()) return null;
+        try {
+            String json = stringRedisTemplate.opsForValue().get(redisKey(key));
+            return (json != null) ? objectMapper.readValue(json, AiResultResponseDto.ResultData.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("AI 요약 캐시(Redis) 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, AiResultResponseDto.ResultData result) {
+        if (!conf.isRedisEnabled()) return;
+        try {
+            stringRedisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(result), conf.getTtl());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("AI 요약 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // URL 길이와 무관하게 키 길이를 고정
+    private String redisKey(String key) {
+        return REDIS_KEY_PREFIX + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ai.summary.cache", "result", result).increment();
+    }
+}
@@ -0,0 +1,89 @@
+package com.momo.momo_backend.ai;
+
+import com.momo.momo_backend.dto.ai.AiResultResponseDto;
+import com.momo.momo_backend.dto.ai.AiTaskResponseDto;
+import com.momo.momo_backend.exception.AiProcessingException;
+import com.momo.momo_backend.exception.AiUnavailableException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 HTTP 호출 전용 클라이언트 (작업 등록 / 상태 조회).
+ * 서킷이 열려 있으면 호출 없이 바로 실패한다. 재시도와 실행 스레드는 AiTaskPollScheduler가 담당.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiTaskClient {
+
+    @Value("${ai.server.url}")
+    private String aiApiUrl;
+
+    private final RestTemplate restTemplate;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiProperties props;
+
+    /** URL 요약 작업 등록 1회 시도 → AI 서버의 task_id (재시도는 AiTaskPollScheduler가 지연 실행으로 담당) */
+    public String submitOnce(String url) {
+        Map<String, String> body = new HashMap<>();
+        body.put("url", url);
+
+        AiTaskResponseDto task = call(() ->
+                restTemplate.postForObject(aiApiUrl + "/async-index/", body, AiTaskResponseDto.class));
+        String taskId = (task != null) ? task.getTaskId() : null;
+
+        if (!StringUtils.hasText(taskId)) {
+            throw new AiProcessingException("AI task 생성 실패");
+        }
+        return taskId;
+    }
+
+    /** 서킷이 열려 있으면 작업 등록을 예약하지 않고 바로 거절 */
+    public void ensureAvailable() {
+        if (circuitBreaker.isOpen()) {
+            throw new AiUnavailableException("AI 서버가 일시적으로 응답하지 않습니다.");
+        }
+    }
+
+    /** 작업 상태 1회 조회 (재시도는 폴링 스케줄러의 다음 주기가 담당) */
+    public AiResultResponseDto fetchStatus(String taskId) {
+        return call(() -> restTemplate.getForObject(aiApiUrl + "/task-status/" + taskId, AiResultResponseDto.class));
+    }
+
+    private <T> T call(Supplier<T> request) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new AiUnavailableException("AI 서버가 일시적으로 응답하지 않습니다.");
+        }
+        try {
+            T result = request.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.release();
+            throw e;
+        }
+    }
+
+    // POST라서 요청이 서버에 닿지 않았거나 서버가 명시적으로 거절한 경우만 재시도
+    boolean isRetryableSubmitError(RestClientException e) {
+        if (e instanceof ResourceAccessException) {
+            return e.getCause() instanceof ConnectException;
+        }
+        return e instanceof HttpServerErrorException se
+                && se.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
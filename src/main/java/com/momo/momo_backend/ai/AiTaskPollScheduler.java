@@ -0,0 +1,243 @@
+package com.momo.momo_backend.ai;
+
+import com.momo.momo_backend.dto.ai.AiResultResponseDto;
+import com.momo.momo_backend.exception.AiProcessingException;
+import com.momo.momo_backend.exception.AiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 진행 중인 모든 AI 작업의 task-status 확인을 하나의 지연 큐로 모아 처리한다.
+ * - 작업별 다음 확인 시각을 DelayQueue로 관리 (처음엔 빠르게, 이후 지수 백오프)
+ * - 실제 HTTP 호출은 크기가 고정된 워커 풀에서만 수행 (AI 서버로 나가는 동시 요청 수 상한)
+ * - 작업 등록도 같은 워커 풀에서 수행하고, 재시도는 지연 실행으로 예약 (요청 스레드는 등록을 기다리지 않음)
+ * - 대기 작업 수 / 가장 오래된 작업 나이 / 폴링 횟수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class AiTaskPollScheduler {
+
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final AiTaskClient aiTaskClient;
+    private final AiProperties.Poll conf;
+    private final AiProperties.Http http;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, PendingTask> pending = new ConcurrentHashMap<>();
+    private final DelayQueue<PendingTask> dueQueue = new DelayQueue<>();
+    private final ThreadPoolExecutor workers;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final Counter polls;
+    private final Counter pollErrors;
+
+    public AiTaskPollScheduler(AiTaskClient aiTaskClient, AiProperties props, MeterRegistry meterRegistry) {
+        this.aiTaskClient = aiTaskClient;
+        this.conf = props.getPoll();
+        this.http = props.getHttp();
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                conf.getWorkers(), conf.getWorkers(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(conf.getWorkerQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "ai-poll-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.dispatcher = new Thread(this::dispatchLoop, "ai-poll-dispatcher");
+        this.dispatcher.setDaemon(true);
+
+        this.polls = meterRegistry.counter("ai.tasks.polls");
+        this.pollErrors = meterRegistry.counter("ai.tasks.poll.errors");
+        Gauge.builder("ai.tasks.pending", pending, Map::size)
+                .description("결과를 기다리는 AI 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.tasks.oldest.age", this, AiTaskPollScheduler::oldestAgeSeconds)
+                .description("가장 오래 기다린 AI 작업의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("ai.tasks.poll.backlog", workers, w -> w.getQueue().size())
+                .description("워커 풀에서 실행을 기다리는 상태 조회 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        workers.shutdownNow();
+    }
+
+    /** URL 요약 작업 등록 + 결과 추적. 등록(재시도 포함)은 워커 풀에서 수행하고 future는 즉시 반환 */
+    public CompletableFuture<AiResultResponseDto.ResultData> submit(String url) {
+        aiTaskClient.ensureAvailable(); // 서킷 OPEN은 호출자에게 바로 알림 (503)
+        CompletableFuture<String> taskId = new CompletableFuture<>();
+        attemptSubmit(url, 1, http.getRetryBackoff().toMillis(), taskId);
+        return taskId.thenCompose(this::track);
+    }
+
+    private void attemptSubmit(String url, int attempt, long backoffMs, CompletableFuture<String> taskId) {
+        try {
+            workers.execute(() -> {
+                try {
+                    taskId.complete(aiTaskClient.submitOnce(url));
+                } catch (RestClientException e) {
+                    if (attempt >= http.getMaxAttempts() || !aiTaskClient.isRetryableSubmitError(e)) {
+                        taskId.completeExceptionally(new AiProcessingException("AI task 생성 실패: " + e.getMessage()));
+                        return;
+                    }
+                    long waitMs = ThreadLocalRandom.current().nextLong(backoffMs / 2, backoffMs + 1); // 지터
+                    long nextBackoffMs = Math.min(backoffMs * 2, http.getRetryMaxBackoff().toMillis());
+                    log.warn("AI task 등록 재시도 예약 attempt={}, wait={}ms, cause={}", attempt, waitMs, e.getMessage());
+                    // 워커를 잡고 기다리지 않고 대기 후 다시 워커 풀에 넣음
+                    CompletableFuture.delayedExecutor(waitMs, TimeUnit.MILLISECONDS)
+                            .execute(() -> attemptSubmit(url, attempt + 1, nextBackoffMs, taskId));
+                } catch (RuntimeException e) {
+                    taskId.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            taskId.completeExceptionally(new AiUnavailableException("AI 작업 대기열이 가득 찼습니다."));
+        }
+    }
+
+    /** AI task_id 추적 시작 (이미 추적 중이면 같은 future 공유) */
+    public CompletableFuture<AiResultResponseDto.ResultData> track(String taskId) {
+        return pending.computeIfAbsent(taskId, id -> {
+            PendingTask task = new PendingTask(id, System.currentTimeMillis(), conf);
+            dueQueue.offer(task);
+            return task;
+        }).future;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            PendingTask task;
+            try {
+                task = dueQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                workers.execute(() -> check(task));
+            } catch (RejectedExecutionException e) {
+                // 워커가 포화 상태면 확인을 조금 미룸
+                task.postpone(conf.getInitialDelayMs());
+                dueQueue.offer(task);
+            }
+        }
+    }
+
+    private void check(PendingTask task) {
+        polls.increment();
+        try {
+            AiResultResponseDto result = aiTaskClient.fetchStatus(task.taskId);
+            if (result != null && "SUCCESS".equals(result.getStatus()) && result.getResult() != null) {
+                finish(task, result.getResult(), null, "success");
+                return;
+            }
+            if (result != null && "FAILURE".equals(result.getStatus())) {
+                finish(task, null, new AiProcessingException("AI processing failed: " + task.taskId), "failure");
+                return;
+            }
+        } catch (RestClientException | AiUnavailableException e) {
+            // 일시적 오류(서킷 OPEN 포함)는 타임아웃까지 다음 주기에 재시도
+            pollErrors.increment();
+            log.warn("AI task 상태 조회 실패 taskId={}, cause={}", task.taskId, e.getMessage());
+        }
+
+        if (System.currentTimeMillis() >= task.deadline) {
+            finish(task, null, new AiProcessingException("AI processing timed out: " + task.taskId), "timeout");
+            return;
+        }
+        task.backoff(conf);
+        dueQueue.offer(task);
+    }
+
+    private void finish(PendingTask task, AiResultResponseDto.ResultData result, Throwable error, String outcome) {
+        pending.remove(task.taskId);
+        Timer.builder("ai.tasks.duration")
+                .tag(OUTCOME_TAG, outcome)
+                .register(meterRegistry)
+                .record(System.currentTimeMillis() - task.createdAt, TimeUnit.MILLISECONDS);
+        if (error != null) {
+            task.future.completeExceptionally(error);
+        } else {
+            task.future.complete(result);
+        }
+    }
+
+    private double oldestAgeSeconds() {
+        long now = System.currentTimeMillis();
+        return pending.values().stream()
+                .mapToLong(t -> now - t.createdAt)
+                .max()
+                .orElse(0L) / 1000.0;
+    }
+
+    /** 지연 큐 원소: 다음 확인 시각 기준으로 정렬 */
+    private static final class PendingTask implements Delayed {
+        private final String taskId;
+        private final long createdAt;
+        private final long deadline;
+        private final CompletableFuture<AiResultResponseDto.ResultData> future = new CompletableFuture<>();
+        private long delayMs;
+        private volatile long nextPollAt;
+
+        PendingTask(String taskId, long now, AiProperties.Poll conf) {
+            this.taskId = taskId;
+            this.createdAt = now;
+            this.deadline = now + conf.getTimeoutMs();
+            this.delayMs = conf.getInitialDelayMs();
+            this.nextPollAt = now + delayMs;
+        }
+
+        void backoff(AiProperties.Poll conf) {
+            delayMs = Math.min(conf.getMaxDelayMs(), (long) (delayMs * conf.getBackoffMultiplier()));
+            nextPollAt = Math.min(System.currentTimeMillis() + delayMs, deadline);
+        }
+
+        void postpone(long ms) {
+            nextPollAt = System.currentTimeMillis() + ms;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextPollAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(nextPollAt, ((PendingTask) o).nextPollAt);
+        }
+    }
+}
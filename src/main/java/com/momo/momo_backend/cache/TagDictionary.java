@@ -0,0 +1,159 @@
+package com.momo.momo_backend.cache;
+
+import com.momo.momo_backend.entity.Tag;
+import com.momo.momo_backend.entity.Tip;
+import com.momo.momo_backend.entity.TipTag;
+import com.momo.momo_backend.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 전역 태그 사전 (name ↔ id).
+ * - id → name: 태그 no가 IDENTITY 연번이라 no를 그대로 인덱스로 쓰는 배열 (박싱/해시 없음)
+ * - name → id: 해시 맵
+ * 기동 시 전체 적재, 새 태그는 커밋 후 반영하고 Redis pub/sub로 다른 노드에 전파한다.
+ */
+@Slf4j
+@Component
+public class TagDictionary implements MessageListener {
+
+    public static final String CHANNEL = "cache:tag-dictionary";
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, Long> idByName = new ConcurrentHashMap<>();
+    private volatile String[] nameById = new String[1024];
+
+    public TagDictionary(TagRepository tagRepository, JdbcTemplate jdbcTemplate,
+                         StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer listenerContainer) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadAll();
+    }
+
+    /** 이름으로 id 조회 (사전에 없으면 null) */
+    public Long idOf(String name) {
+        return idByName.get(name);
+    }
+
+    /** id로 이름 조회, 사전에 없으면 DB에서 읽어 등록 */
+    public String nameOf(Long id) {
+        if (id == null) return null;
+        String name = cachedName(id);
+        if (name != null) return name;
+        return tagRepository.findById(id)
+                .map(t -> { intern(t.getNo(), t.getName()); return t.getName(); })
+                .orElse(null);
+    }
+
+    /** id 목록 → 이름 목록 (순서 유지). 사전에 없는 id는 한 번에 조회 */
+    public List<String> namesOf(List<Long> ids) {
+        List<Long> unknown = ids.stream().filter(id -> cachedName(id) == null).distinct().toList();
+        if (!unknown.isEmpty()) {
+            tagRepository.findAllById(unknown).forEach(t -> intern(t.getNo(), t.getName()));
+        }
+        return ids.stream().map(this::cachedName).filter(Objects::nonNull).toList();
+    }
+
+    /** 팁의 태그 이름 목록 (TipTag의 tag 프록시는 id만 읽으므로 Tag 엔티티를 로딩하지 않음) */
+    public List<String> namesOf(Tip tip) {
+        return namesOf(tip.getTipTags().stream()
+                .map(TipTag::getTag)
+                .map(Tag::getNo)
+                .toList());
+    }
+
+    /** DB에서 읽은(이미 커밋된) 태그를 사전에 반영 */
+    public void remember(Tag tag) {
+        intern(tag.getNo(), tag.getName());
+    }
+
+    /** 새로 생성된 태그를 커밋 이후 사전에 반영하고 다른 노드에 알림 */
+    public void registerAfterCommit(List<Tag> created) {
+        if (created.isEmpty()) return;
+        Runnable publish = () -> created.forEach(t -> {
+            intern(t.getNo(), t.getName());
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL, t.getNo() + ":" + t.getName());
+            } catch (DataAccessException e) {
+                // 전파 실패 시 다른 노드는 조회 시점 DB 폴백으로 채움
+                log.warn("태그 사전 전파 실패 tagNo={}, cause={}", t.getNo(), e.getMessage());
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+
+    /** 다른 노드에서 온 변경 알림: "{no}:{name}" */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        if (sep <= 0) return;
+        try {
+            intern(Long.parseLong(body.substring(0, sep)), body.substring(sep + 1));
+        } catch (NumberFormatException e) {
+            log.warn("태그 사전 알림 형식 오류: {}", body);
+        }
+    }
+
+    public int size() {
+        return idByName.size();
+    }
+
+    private void reloadAll() {
+        jdbcTemplate.query("SELECT no, name FROM tag", rs -> {
+            intern(rs.getLong("no"), rs.getString("name"));
+        });
+        log.info("태그 사전 적재 완료 size={}", idByName.size());
+    }
+
+    private String cachedName(Long id) {
+        String[] arr = nameById;
+        return (id >= 0 && id < arr.length) ? arr[(int) id.longValue()] : null;
+    }
+
+    private synchronized void intern(long id, String name) {
+        if (id < 0 || id >= Integer.MAX_VALUE - 8) return;
+        String[] arr = nameById;
+        if (id >= arr.length) {
+            int newLength = arr.length;
+            while (newLength <= id) newLength = Math.min(newLength * 2, Integer.MAX_VALUE - 8);
+            arr = Arrays.copyOf(arr, newLength);
+        }
+        arr[(int) id] = name;
+        nameById = arr; // volatile 재할당으로 읽기 스레드에 게시
+        idByName.put(name, id);
+    }
+}
@@ -0,0 +1,30 @@
+package com.momo.momo_backend.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/** 꿀팁 요약 캐시 설정 (cache.tip.*) */
+@ConfigurationProperties(prefix = "cache.tip")
+public class TipCacheProperties {
+    private boolean enabled = true;
+    private long localMaxSize = 20_000;               // 노드 힙 캐시 항목 수 (W-TinyLFU로 축출)
+    private Duration localTtl = Duration.ofMinutes(10); // 무효화 알림 유실 시 최대 지연
+    private boolean redisEnabled = true;
+    private Duration redisTtl = Duration.ofHours(1);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getLocalMaxSize() { return localMaxSize; }
+    public void setLocalMaxSize(long localMaxSize) { this.localMaxSize = localMaxSize; }
+
+    public Duration getLocalTtl() { return localTtl; }
+    public void setLocalTtl(Duration localTtl) { this.localTtl = localTtl; }
+
+    public boolean isRedisEnabled() { return redisEnabled; }
+    public void setRedisEnabled(boolean redisEnabled) { this.redisEnabled = redisEnabled; }
+
+    public Duration getRedisTtl() { return redisTtl; }
+    public void setRedisTtl(Duration redisTtl) { this.redisTtl = redisTtl; }
+}
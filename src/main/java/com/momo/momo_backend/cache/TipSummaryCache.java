@@ -0,0 +1,241 @@
+package com.momo.momo_backend.cache;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.dto.TipRow;
+import com.momo.momo_backend.realtime.events.TipDeletedEvent;
+import com.momo.momo_backend.realtime.events.TipUpdatedEvent;
+import com.momo.momo_backend.service.TipReadModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 꿀팁 요약(TipRow + 태그 이름) 2단 캐시.
+ * 1차: 노드 힙 Caffeine (크기 제한, W-TinyLFU 축출), 2차: Redis (필드 이름 없는 JSON 배열).
+ * 상세/실시간 페이로드/랭킹/피드가 모두 같은 요약에서 응답을 만들므로 인기 팁은 DB를 거치지 않는다.
+ * 수정/삭제 커밋 이후 두 단계에서 지우고 pub/sub로 다른 노드의 1차 캐시도 비운다.
+ * 작성자 닉네임이 바뀌면 그 작성자의 요약을 같은 방식으로 모두 지운다.
+ * 커밋 직전에 읽은 값이 무효화 뒤에 다시 기록되는 경합은 TTL(cache.tip.*-ttl)만큼만 남는다.
+ */
+@Slf4j
+@Component
+public class TipSummaryCache implements MessageListener {
+
+    /** 캐시 항목: 응답 변환에 필요한 행과 태그 이름 */
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    public record Summary(TipRow row, List<String> tags) {
+        public TipDto.DetailResponse toDetail() {
+            return TipDto.DetailResponse.from(row, tags);
+        }
+    }
+
+    public static final String CHANNEL = "cache:tip-summary";
+    private static final String REDIS_KEY_PREFIX = "TIP:SUMMARY:";
+    private static final char AUTHOR_MARK = 'u'; // pub/sub 본문 "{nodeId}|u{userNo}" = 작성자 단위 무효화
+
+    private final TipReadModel tipReadModel;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TipCacheProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<Long, Summary> local;
+
+    public TipSummaryCache(TipReadModel tipReadModel, StringRedisTemplate stringRedisTemplate,
+                           ObjectMapper objectMapper, TipCacheProperties props, MeterRegistry meterRegistry,
+                           RedisMessageListenerContainer listenerContainer) {
+        this.tipReadModel = tipReadModel;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(props.getLocalMaxSize())
+                .expireAfterWrite(props.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "tip.summary.local");
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<Summary> get(Long tipNo) {
+        if (tipNo == null) return Optional.empty();
+        return Optional.ofNullable(getAll(List.of(tipNo)).get(tipNo));
+    }
+
+    /** tip no → 요약 (삭제된 팁은 키 없음). 1차 → 2차(MGET 한 번) → DB(IN 조회 두 번) 순 */
+    public Map<Long, Summary> getAll(Collection<Long> tipNos) {
+        if (tipNos.isEmpty()) return Map.of();
+        if (!props.isEnabled()) return loadFromDatabase(new LinkedHashSet<>(tipNos));
+        return local.getAll(tipNos, this::loadMissing);
+    }
+
+    public Optional<TipDto.DetailResponse> detail(Long tipNo) {
+        return get(tipNo).map(Summary::toDetail);
+    }
+
+    /** tip no 순서대로 상세 응답 (삭제된 팁은 제외) */
+    public List<TipDto.DetailResponse> details(List<Long> tipNos) {
+        if (tipNos.isEmpty()) return List.of();
+        Map<Long, Summary> found = getAll(tipNos);
+        return tipNos.stream().map(found::get).filter(Objects::nonNull).map(Summary::toDetail).toList();
+    }
+
+    // ===================== 무효화 =====================
+
+    // 같은 커밋에 반응하는 다른 리스너(실시간 페이로드 등)가 새 값을 읽도록 가장 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipUpdated(TipUpdatedEvent e) {
+        evict(e.tipId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipDeleted(TipDeletedEvent e) {
+        evict(e.tipId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNicknameChanged(UserNicknameChangedEvent e) {
+        evictAuthor(e.userNo());
+    }
+
+    /** 작성자의 모든 요약 삭제: 1차는 캐시 안에서 작성자로 찾고, 2차는 작성자의 tip no 목록으로 */
+    public void evictAuthor(Long userNo) {
+        if (userNo == null) return;
+        invalidateLocalAuthor(userNo);
+        try {
+            if (props.isRedisEnabled()) {
+                List<String> keys = tipReadModel.tipNosByAuthor(userNo).stream().map(TipSummaryCache::redisKey).toList();
+                if (!keys.isEmpty()) stringRedisTemplate.delete(keys);
+            }
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + "|" + AUTHOR_MARK + userNo);
+        } catch (DataAccessException ex) {
+            log.warn("꿀팁 요약 캐시 작성자 무효화 실패 userNo={}, cause={}", userNo, ex.getMessage());
+        }
+    }
+
+    public void evict(Long tipNo) {
+        if (tipNo == null) return;
+        local.invalidate(tipNo);
+        try {
+            if (props.isRedisEnabled()) stringRedisTemplate.delete(redisKey(tipNo));
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + "|" + tipNo);
+        } catch (DataAccessException ex) {
+            // 다른 노드의 1차 캐시는 localTtl 안에 만료됨
+            log.warn("꿀팁 요약 캐시 무효화 전파 실패 tipNo={}, cause={}", tipNo, ex.getMessage());
+        }
+    }
+
+    /** 다른 노드의 무효화: "{nodeId}|{tipNo}" */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf('|');
+        if (sep <= 0 || nodeId.equals(body.substring(0, sep))) return;
+        try {
+            if (body.charAt(sep + 1) == AUTHOR_MARK) {
+                invalidateLocalAuthor(Long.parseLong(body.substring(sep + 2)));
+            } else {
+                local.invalidate(Long.parseLong(body.substring(sep + 1)));
+            }
+        } catch (NumberFormatException ex) {
+            log.warn("꿀팁 요약 캐시 알림 형식 오류: {}", body);
+        }
+    }
+
+    private void invalidateLocalAuthor(Long userNo) {
+        local.asMap().values().removeIf(s -> userNo.equals(s.row().userNo()));
+    }
+
+    // ===================== 적재 =====================
+
+    private Map<Long, Summary> loadMissing(Set<? extends Long> tipNos) {
+        Map<Long, Summary> loaded = new HashMap<>(tipNos.size() * 2);
+        List<Long> keys = new ArrayList<>(tipNos);
+        readRedis(keys, loaded);
+        count("hit_redis", loaded.size());
+
+        Set<Long> missing = new LinkedHashSet<>(keys);
+        missing.removeAll(loaded.keySet());
+        if (!missing.isEmpty()) {
+            Map<Long, Summary> fromDb = loadFromDatabase(missing);
+            count("miss", missing.size());
+            writeRedis(fromDb.values());
+            loaded.putAll(fromDb);
+        }
+        return loaded;
+    }
+
+    private Map<Long, Summary> loadFromDatabase(Set<Long> tipNos) {
+        Map<Long, TipRow> rows = tipReadModel.rowsByNo(tipNos);
+        if (rows.isEmpty()) return Map.of();
+        Map<Long, List<String>> tags = tipReadModel.tagNamesByTipNo(rows.keySet());
+        Map<Long, Summary> summaries = new HashMap<>(rows.size() * 2);
+        rows.forEach((no, row) -> summaries.put(no, new Summary(row, tags.getOrDefault(no, List.of()))));
+        return summaries;
+    }
+
+    private void readRedis(List<Long> tipNos, Map<Long, Summary> into) {
+        if (!props.isRedisEnabled()) return;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(tipNos.stream().map(TipSummaryCache::redisKey).toList());
+            if (values == null) return;
+            for (int i = 0; i < values.size(); i++) {
+                String json = values.get(i);
+                if (json != null) into.put(tipNos.get(i), objectMapper.readValue(json, Summary.class));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("꿀팁 요약 캐시(Redis) 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void writeRedis(Collection<Summary> summaries) {
+        if (!props.isRedisEnabled() || summaries.isEmpty()) return;
+        try {
+            Map<String, String> values = new HashMap<>(summaries.size() * 2);
+            for (Summary s : summaries) values.put(redisKey(s.row().no()), objectMapper.writeValueAsString(s));
+            long ttlSeconds = props.getRedisTtl().toSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                values.forEach((key, json) -> conn.setEx(key, ttlSeconds, json));
+                return null;
+            });
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("꿀팁 요약 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String redisKey(Long tipNo) {
+        return REDIS_KEY_PREFIX + tipNo;
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) meterRegistry.counter("tip.summary.cache", "result", result).increment(amount);
+    }
+}
@@ -0,0 +1,4 @@
+package com.momo.momo_backend.cache;
+
+/** 닉네임 변경 커밋 이후 발행 (작성자 닉네임이 담긴 꿀팁 요약 캐시 무효화용) */
+public record UserNicknameChangedEvent(Long userNo) {}
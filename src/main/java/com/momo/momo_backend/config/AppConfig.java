@@ -1,14 +1,62 @@
 package com.momo.momo_backend.config;
 
+import com.momo.momo_backend.ai.AiHttpMetricsInterceptor;
+import com.momo.momo_backend.ai.AiProperties;
+import com.momo.momo_backend.cache.TipCacheProperties;
+import com.momo.momo_backend.feed.FeedProperties;
+import com.momo.momo_backend.notification.NotificationProperties;
+import com.momo.momo_backend.ranking.RankingProperties;
+import com.momo.momo_backend.search.SearchProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties({AiProperties.class, NotificationProperties.class, RankingProperties.class,
+        SearchProperties.class, FeedProperties.class, TipCacheProperties.class})
 public class AppConfig {
 
+    // AI 서버 호출용 커넥션 풀 (keep-alive 재사용, 모든 구간 타임아웃 적용)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient aiHttpClient(AiProperties props) {
+        AiProperties.Http http = props.getHttp();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnTotal())
+                .setMaxConnPerRoute(http.getMaxConnPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(http.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(http.getReadTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(http.getConnectionTtl().toMillis()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(http.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(http.getResponseTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(http.getIdleTimeout().toMillis()))
+                .disableAutomaticRetries() // 재시도는 AiTaskClient에서 백오프와 함께 처리
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient aiHttpClient, AiHttpMetricsInterceptor metricsInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiHttpClient));
+        restTemplate.getInterceptors().add(metricsInterceptor);
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.momo.momo_backend.config;
 
+import com.momo.momo_backend.dto.CursorPage;
 import com.momo.momo_backend.security.CustomUserDetailsService;
 import com.momo.momo_backend.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
@@ -67,7 +68,7 @@ public class SecurityConfig {
         c.addAllowedHeader(CorsConfiguration.ALL);
 
         c.setAllowCredentials(true);
-        c.setExposedHeaders(List.of("Location","Authorization"));
+        c.setExposedHeaders(List.of("Location","Authorization", CursorPage.NEXT_CURSOR_HEADER));
         c.setMaxAge(Duration.ofHours(1)); // 선택
 
         UrlBasedCorsConfigurationSource src = new UrlBasedCorsConfigurationSource();
@@ -88,10 +89,12 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/ws/**",
                                 "/api/query/tips/all",
+                                "/api/query/tips/all/stream",
                                 "/api/query/tips/*",
                                 "/api/search/tips/public",
                                 "/api/search/tips/tag/**",
                                 "/api/bookmark/ranking/weekly",
+                                "/api/bookmark/ranking",
                                 "/api/users/all",
                                 "/api/users/search",
                                 "/api/tips/tag/**",
@@ -0,0 +1,66 @@
+package com.momo.momo_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * INSERT ... ON CONFLICT 대상 유니크 인덱스 보장 (bookmark(user_no, tip_no), storage_tip(storage_no, tip_no)).
+ * ddl-auto=update는 중복 행이 있으면 제약을 조용히 건너뛰고 validate는 만들지 않으므로 기동 시 직접 만든다.
+ * 인덱스가 없을 때만 테이블을 잠그고 중복을 지운 뒤(가장 먼저 생긴 행 유지) 인덱스를 만든다.
+ * 요청을 받기 전에 끝나야 하므로 컨텍스트 초기화 중(웹 서버 시작 전)에 실행하고, 실패하면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto가 테이블을 만든 뒤
+public class UniqueKeyInitializer implements InitializingBean {
+
+    private record UniqueKey(String table, String index, String columnA, String columnB) {}
+
+    private static final List<UniqueKey> KEYS = List.of(
+            new UniqueKey("bookmark", "uk_bookmark_user_tip", "user_no", "tip_no"),
+            new UniqueKey("storage_tip", "uk_storage_tip_storage_tip", "storage_no", "tip_no"));
+
+    private static final String INDEX_EXISTS =
+            "SELECT count(*) FROM pg_indexes WHERE schemaname = current_schema() AND tablename = ? AND indexname = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UniqueKeyInitializer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        KEYS.forEach(this::ensure);
+    }
+
+    private void ensure(UniqueKey key) {
+        if (exists(key)) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            // 다른 노드의 동시 INSERT가 정리와 인덱스 생성 사이에 중복을 만들지 않도록 쓰기 잠금
+            jdbcTemplate.execute("LOCK TABLE " + key.table() + " IN SHARE ROW EXCLUSIVE MODE");
+            if (exists(key)) return;
+            int removed = jdbcTemplate.update("DELETE FROM " + key.table() + " a USING " + key.table() + " b "
+                    + "WHERE a." + key.columnA() + " = b." + key.columnA()
+                    + " AND a." + key.columnB() + " = b." + key.columnB()
+                    + " AND a.no > b.no");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + key.index() + " ON " + key.table()
+                    + " (" + key.columnA() + ", " + key.columnB() + ")");
+            log.info("유니크 인덱스 생성 {} (중복 {}건 삭제)", key.index(), removed);
+        });
+    }
+
+    private boolean exists(UniqueKey key) {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS, Integer.class, key.table(), key.index());
+        return count != null && count > 0;
+    }
+}
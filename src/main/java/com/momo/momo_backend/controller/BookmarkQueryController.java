@@ -1,11 +1,18 @@
 package com.momo.momo_backend.controller;
 
+import com.momo.momo_backend.dto.ErrorResponse;
 import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.security.CustomUserDetails;
 import com.momo.momo_backend.service.BookmarkQueryService;
+import com.momo.momo_backend.service.RankingQueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -16,6 +23,7 @@ import java.util.List;
 public class BookmarkQueryController {
 
     private final BookmarkQueryService bookmarkQueryService;
+    private final RankingQueryService rankingQueryService;
 
     // 주간 북마크 랭킹 조회
     @GetMapping("/ranking/weekly")
@@ -23,4 +31,33 @@ public class BookmarkQueryController {
         List<TipDto.WeeklyRankingResponse> ranking = bookmarkQueryService.getWeeklyBookmarkRanking();
         return ResponseEntity.ok(ranking);
     }
-}
\ No newline at end of file
+
+    // 기간/태그/그룹별 북마크 랭킹 조회 - 그룹 랭킹만 토큰 필요
+    @GetMapping("/ranking")
+    public ResponseEntity<Object> getRanking(@RequestParam(defaultValue = "weekly") String period,
+                                             @RequestParam(required = false) String tag,
+                                             @RequestParam(required = false) Long groupNo,
+                                             @RequestParam(defaultValue = "10") int limit,
+                                             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long requesterNo = (userDetails != null) ? userDetails.getUser().getNo() : null;
+        try {
+            List<TipDto.RankingResponse> ranking =
+                    rankingQueryService.getRanking(period, tag, groupNo, limit, requesterNo);
+            return ResponseEntity.ok(ranking);
+        } catch (AccessDeniedException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .status(HttpStatus.FORBIDDEN.value())
+                    .message(e.getMessage())
+                    .error(e.getClass().getSimpleName())
+                    .build();
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .status(HttpStatus.BAD_REQUEST.value())
+                    .message(e.getMessage())
+                    .error(e.getClass().getSimpleName())
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.momo.momo_backend.controller;
+
+import com.momo.momo_backend.dto.CursorPage;
+import com.momo.momo_backend.dto.TipCursor;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.security.CustomUserDetails;
+import com.momo.momo_backend.service.FeedQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedQueryService feedQueryService;
+
+    // 팔로잉 홈 피드 (최신순, 다음 페이지 커서는 X-Next-Cursor 헤더) - 토큰 필요
+    @GetMapping
+    public ResponseEntity<List<TipDto.DetailResponse>> getHomeFeed(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TipDto.DetailResponse> page = feedQueryService.getHomeFeed(
+                userDetails.getUser().getNo(), TipCursor.decode(cursor), TipCursor.clampSize(size));
+        return ResponseEntity.ok().headers(page.headers()).body(page.items());
+    }
+}
@@ -3,7 +3,9 @@ package com.momo.momo_backend.controller;
 import com.momo.momo_backend.dto.ErrorResponse;
 import com.momo.momo_backend.dto.MessageResponse;
 import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.exception.AiUnavailableException;
 import com.momo.momo_backend.security.CustomUserDetails;
+import com.momo.momo_backend.service.TipGenerationService;
 import com.momo.momo_backend.service.TipService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/tips")
@@ -21,28 +24,102 @@ import org.springframework.web.bind.annotation.*;
 public class TipController {
 
     private final TipService tipService;
+    private final TipGenerationService tipGenerationService;
+
+    // AI 폴링 타임아웃(120s) + 여유
+    private static final long GENERATE_TIMEOUT_MS = 130_000L;
 
     // 꿀팁 생성 (AI 정보 미리보기)
+    // 결과가 나올 때까지 응답을 보류하지만, 대기 중에는 서블릿 스레드를 점유하지 않음
     @PostMapping("/generate")
-    public ResponseEntity<Object> createTip(
+    public DeferredResult<ResponseEntity<Object>> createTip(
                                              @RequestBody TipDto.CreateRequest request,
                                              @AuthenticationPrincipal CustomUserDetails user
     ) {
         String who = (user != null) ? user.getUsername() : "anonymous";
         log.info("꿀팁 생성 요청 by={}, url={}, title(pre):{}, tags(pre):{}",
                 who, request.getUrl(), request.getTitle(), request.getTags());
+
+        DeferredResult<ResponseEntity<Object>> deferred = new DeferredResult<>(GENERATE_TIMEOUT_MS);
+        deferred.onTimeout(() -> {
+            log.error("꿀팁 생성 응답 대기 시간 초과 url={}", request.getUrl());
+            deferred.setErrorResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        });
+
         try {
-            TipDto.CreateResponse response = tipService.createTip(request);
-            log.info("꿀팁 생성 미리보기 완료 title={}, tags={}", response.getTitle(), response.getTags());
-            return ResponseEntity.ok(response);
-        } catch (InterruptedException e) {
-            // 스레드 중단 요청을 받았으므로, 현재 스레드의 중단 상태를 다시 설정합니다.
-            Thread.currentThread().interrupt();
-            log.error("꿀팁 생성 중 스레드 중단 오류: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            TipGenerationService.Generation generation = tipGenerationService.start(request, userNoOf(user));
+            generation.getFuture().whenComplete((response, ex) -> {
+                if (ex != null) {
+                    log.error("꿀팁 생성 중 오류: {}", ex.getMessage(), ex);
+                    deferred.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                    return;
+                }
+                log.info("꿀팁 생성 미리보기 완료 title={}, tags={}", response.getTitle(), response.getTags());
+                deferred.setResult(ResponseEntity.ok(response));
+            });
+        } catch (AiUnavailableException e) {
+            log.warn("AI 서버 서킷 OPEN으로 꿀팁 생성 거절: {}", e.getMessage());
+            deferred.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
         } catch (Exception e) {
             log.error("꿀팁 생성 중 오류: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            deferred.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        }
+        return deferred;
+    }
+
+    // 꿀팁 생성 (비동기 모드) - 작업 ID를 즉시 반환, 결과는 상태 조회 또는 /user/queue/tip-generations 로 수신
+    @PostMapping("/generate/async")
+    public ResponseEntity<Object> createTipAsync(
+            @RequestBody TipDto.CreateRequest request,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        try {
+            TipGenerationService.Generation generation = tipGenerationService.start(request, userNoOf(user));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(generation.toStatusResponse());
+        } catch (AiUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    ErrorResponse.builder()
+                            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                            .message(e.getMessage())
+                            .error(e.getClass().getSimpleName())
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("꿀팁 생성 작업 등록 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    ErrorResponse.builder()
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                            .message("꿀팁 생성 작업 등록 중 오류가 발생했습니다.")
+                            .error(e.getClass().getSimpleName())
+                            .build()
+            );
+        }
+    }
+
+    // 꿀팁 생성 작업 상태 조회
+    @GetMapping("/generate/{taskId}")
+    public ResponseEntity<Object> getGenerationStatus(
+            @PathVariable String taskId,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        try {
+            return ResponseEntity.ok(tipGenerationService.getStatus(taskId, userNoOf(user)));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    ErrorResponse.builder()
+                            .status(HttpStatus.FORBIDDEN.value())
+                            .message(e.getMessage())
+                            .error(e.getClass().getSimpleName())
+                            .build()
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ErrorResponse.builder()
+                            .status(HttpStatus.NOT_FOUND.value())
+                            .message(e.getMessage())
+                            .error(e.getClass().getSimpleName())
+                            .build()
+            );
         }
     }
 
@@ -115,4 +192,8 @@ public class TipController {
             );
         }
     }
+
+    private Long userNoOf(CustomUserDetails user) {
+        return (user != null) ? user.getUser().getNo() : null;
+    }
 }
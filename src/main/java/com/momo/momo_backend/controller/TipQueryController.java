@@ -1,17 +1,22 @@
 package com.momo.momo_backend.controller;
 
+import com.momo.momo_backend.dto.CursorPage;
 import com.momo.momo_backend.dto.ErrorResponse;
-import com.momo.momo_backend.entity.Tip;
+import com.momo.momo_backend.dto.TipCursor;
 import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.service.TipExportService;
 import com.momo.momo_backend.service.TipQueryService;
 import com.momo.momo_backend.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/query/tips")
@@ -19,56 +24,76 @@ import java.util.List;
 public class TipQueryController {
 
     private final TipQueryService tipQueryService;
+    private final TipExportService tipExportService;
 
     // 사용자가 작성한 팁 조회 (등록된 팁만) - 토큰 필요
     @GetMapping("/my")
-    public ResponseEntity<List<TipDto.DetailResponse>> getMyTips(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<List<TipDto.DetailResponse>> getMyTips(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "20") int size) {
         Long userId = userDetails.getUser().getNo();
-        List<Tip> tips = tipQueryService.getTipsByUser(userId);
-        List<TipDto.DetailResponse> responseList = tips.stream()
-                .map(TipDto.DetailResponse::from)
-                .toList();
-        return ResponseEntity.ok(responseList);
+        CursorPage<TipDto.DetailResponse> page =
+                tipQueryService.getTipsByUser(userId, TipCursor.decode(cursor), TipCursor.clampSize(size));
+        return ResponseEntity.ok().headers(page.headers()).body(page.items());
     }
 
     // 공개된 팁 목록 조회 (등록된 팁만) - 토큰 불필요
     @GetMapping("/all")
-    public ResponseEntity<List<TipDto.DetailResponse>> getAllPublicTips() {
-        List<Tip> tips = tipQueryService.getAllPublicTips();
-        List<TipDto.DetailResponse> responseList = tips.stream()
-                .map(TipDto.DetailResponse::from)
-                .toList();
-        return ResponseEntity.ok(responseList);
+    public ResponseEntity<List<TipDto.DetailResponse>> getAllPublicTips(@RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TipDto.DetailResponse> page =
+                tipQueryService.getAllPublicTips(TipCursor.decode(cursor), TipCursor.clampSize(size));
+        return ResponseEntity.ok().headers(page.headers()).body(page.items());
+    }
+
+    // 내 팁 전체 스트리밍 (format=ndjson|json) - 토큰 필요
+    @GetMapping("/my/stream")
+    public ResponseEntity<StreamingResponseBody> streamMyTips(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                              @RequestParam(defaultValue = "ndjson") String format) {
+        TipExportService.Format f = parseFormat(format);
+        Long userId = userDetails.getUser().getNo();
+        return ResponseEntity.ok()
+                .contentType(mediaTypeOf(f))
+                .body(tipExportService.streamTipsByUser(userId, f));
+    }
+
+    // 공개 팁 전체 스트리밍 (format=ndjson|json) - 토큰 불필요
+    @GetMapping("/all/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllPublicTips(@RequestParam(defaultValue = "ndjson") String format) {
+        TipExportService.Format f = parseFormat(format);
+        return ResponseEntity.ok()
+                .contentType(mediaTypeOf(f))
+                .body(tipExportService.streamPublicTips(f));
     }
 
     // 특정 보관함에 속한 팁 조회 (등록된 팁만) - 토큰 필요
     @GetMapping("/storage/{storageNo}")
     public ResponseEntity<List<TipDto.DetailResponse>> getTipsByStorage(@PathVariable Long storageNo,
-                                                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
-        List<Tip> tips = tipQueryService.getTipsByStorage(storageNo);
-        List<TipDto.DetailResponse> responseList = tips.stream()
-                .map(TipDto.DetailResponse::from)
-                .toList();
-        return ResponseEntity.ok(responseList);
+                                                                        @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TipDto.DetailResponse> page =
+                tipQueryService.getTipsByStorage(storageNo, TipCursor.decode(cursor), TipCursor.clampSize(size));
+        return ResponseEntity.ok().headers(page.headers()).body(page.items());
     }
 
     // 상세 팁 조회 - 토큰 불필요
     @GetMapping("/{tipNo}")
     public ResponseEntity<TipDto.DetailResponse> getTipDetails(@PathVariable Long tipNo) {
-        Tip tip = tipQueryService.getTipDetails(tipNo);
-        TipDto.DetailResponse response = TipDto.DetailResponse.from(tip);
+        TipDto.DetailResponse response = tipQueryService.getTipDetails(tipNo);
         return ResponseEntity.ok(response);
     }
 
     // 특정 사용자의 공개 꿀팁 목록 조회 - 토큰 불필요
     @GetMapping("/user/{userNo}")
-    public ResponseEntity<Object> getPublicTipsByUser(@PathVariable Long userNo) {
+    public ResponseEntity<Object> getPublicTipsByUser(@PathVariable Long userNo,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        TipCursor tipCursor = TipCursor.decode(cursor); // 잘못된 커서는 400 (사용자 없음 404와 구분)
         try {
-            List<Tip> tips = tipQueryService.getPublicTipsByUser(userNo);
-            List<TipDto.DetailResponse> responseList = tips.stream()
-                    .map(TipDto.DetailResponse::from)
-                    .toList();
-            return ResponseEntity.ok(responseList);
+            CursorPage<TipDto.DetailResponse> page =
+                    tipQueryService.getPublicTipsByUser(userNo, tipCursor, TipCursor.clampSize(size));
+            return ResponseEntity.ok().headers(page.headers()).body(page.items());
         } catch (IllegalArgumentException e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .status(HttpStatus.NOT_FOUND.value())
@@ -78,4 +103,16 @@ public class TipQueryController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
         }
     }
+
+    private static TipExportService.Format parseFormat(String format) {
+        try {
+            return TipExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("format은 json 또는 ndjson만 가능합니다.");
+        }
+    }
+
+    private static MediaType mediaTypeOf(TipExportService.Format format) {
+        return format == TipExportService.Format.JSON ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON;
+    }
 }
@@ -1,5 +1,7 @@
 package com.momo.momo_backend.controller;
 
+import com.momo.momo_backend.dto.CursorPage;
+import com.momo.momo_backend.dto.TipCursor;
 import com.momo.momo_backend.dto.TipDto;
 import com.momo.momo_backend.security.CustomUserDetails;
 import com.momo.momo_backend.service.TipSearchService;
@@ -22,10 +24,10 @@ public class TipSearchController {
     public ResponseEntity<List<TipDto.DetailResponse>> searchPublic(
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "OR") String mode, // OR | AND
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor, // 이전 응답의 X-Next-Cursor
             @RequestParam(defaultValue = "20") int size
     ) {
-        return ResponseEntity.ok(tipSearchService.searchPublic(keyword, mode, page, size));
+        return toResponse(tipSearchService.searchPublic(keyword, mode, TipCursor.decode(cursor), TipCursor.clampSize(size)));
     }
 
     //  내 보관함 검색 — 인증 필요
@@ -34,11 +36,11 @@ public class TipSearchController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "OR") String mode, // OR | AND
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor, // 이전 응답의 X-Next-Cursor
             @RequestParam(defaultValue = "20") int size
     ) {
         Long userNo = userDetails.getUser().getNo();
-        return ResponseEntity.ok(tipSearchService.searchMy(userNo, keyword, mode, page, size));
+        return toResponse(tipSearchService.searchMy(userNo, keyword, mode, TipCursor.decode(cursor), TipCursor.clampSize(size)));
     }
 
     // 특정 그룹 검색 — 그룹 멤버만
@@ -48,11 +50,11 @@ public class TipSearchController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "OR") String mode, // OR | AND
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor, // 이전 응답의 X-Next-Cursor
             @RequestParam(defaultValue = "20") int size
     ) {
         Long userNo = userDetails.getUser().getNo();
-        return ResponseEntity.ok(tipSearchService.searchGroup(groupNo, userNo, keyword, mode, page, size));
+        return toResponse(tipSearchService.searchGroup(groupNo, userNo, keyword, mode, TipCursor.decode(cursor), TipCursor.clampSize(size)));
     }
 
     // 특정 그룹 검색 — 그룹 멤버만
@@ -62,10 +64,15 @@ public class TipSearchController {
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "OR") String mode, // OR | AND
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor, // 이전 응답의 X-Next-Cursor
             @RequestParam(defaultValue = "20") int size
     ) {
         Long userNo = userDetails.getUser().getNo();
-        return ResponseEntity.ok(tipSearchService.searchStorage(storageNo, userNo, keyword, mode, page, size));
+        return toResponse(tipSearchService.searchStorage(storageNo, userNo, keyword, mode, TipCursor.decode(cursor), TipCursor.clampSize(size)));
+    }
+
+    // 본문은 목록, 다음 페이지 커서는 헤더
+    private static ResponseEntity<List<TipDto.DetailResponse>> toResponse(CursorPage<TipDto.DetailResponse> page) {
+        return ResponseEntity.ok().headers(page.headers()).body(page.items());
     }
 }
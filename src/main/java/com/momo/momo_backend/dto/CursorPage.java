@@ -0,0 +1,24 @@
+package com.momo.momo_backend.dto;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지: 항목과 다음 페이지 커서 (마지막 페이지면 null).
+ * 응답 본문은 기존과 같은 목록이고, 커서는 X-Next-Cursor 헤더로 내려준다.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static <T> CursorPage<T> last(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) headers.set(NEXT_CURSOR_HEADER, nextCursor);
+        return headers;
+    }
+}
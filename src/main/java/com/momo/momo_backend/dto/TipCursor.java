@@ -0,0 +1,68 @@
+package com.momo.momo_backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 꿀팁 목록/검색 키셋 커서: 직전 페이지 마지막 항목의 (score, createdAt, no).
+ * 정렬은 항상 (score DESC,) createdAt DESC, no DESC 이고, score는 키워드 검색에서만 사용한다.
+ * 키워드 검색 커서는 발급한 엔진도 함께 담는다 (ts_rank와 일치 단어 수는 서로 이어받을 수 없음).
+ * 클라이언트에는 base64url 불투명 토큰으로만 노출한다.
+ */
+public record TipCursor(Float score, LocalDateTime createdAt, Long no, Engine engine) {
+
+    /** 키워드 검색 커서를 발급한 엔진 */
+    public enum Engine { DB, MEMORY }
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /** 첫 페이지: 모든 행보다 앞에 있는 가상의 위치 (조건식을 그대로 쓰기 위한 센티널) */
+    public static final TipCursor FIRST =
+            new TipCursor(null, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static final String INVALID = "잘못된 커서입니다.";
+
+    /** 목록 커서 (엔진 구분 없음) */
+    public TipCursor(Float score, LocalDateTime createdAt, Long no) {
+        this(score, createdAt, no, null);
+    }
+
+    public static TipCursor of(TipRow row) {
+        return new TipCursor(null, row.createdAt(), row.no());
+    }
+
+    /** 토큰 해석 (비어 있으면 첫 페이지) */
+    public static TipCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 && parts.length != 4) throw new IllegalArgumentException(INVALID);
+            return new TipCursor(
+                    parts[0].isEmpty() ? null : Float.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]),
+                    parts.length == 4 ? Engine.valueOf(parts[3]) : null);
+        } catch (DateTimeParseException | IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException(INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = (score == null ? "" : score.toString()) + "|" + createdAt + "|" + no
+                + (engine == null ? "" : "|" + engine.name());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return Long.valueOf(Long.MAX_VALUE).equals(no);
+    }
+
+    /** 페이지 크기 보정 (1 ~ MAX_SIZE) */
+    public static int clampSize(int size) {
+        return size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+}
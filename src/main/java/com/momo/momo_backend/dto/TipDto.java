@@ -6,6 +6,7 @@ import com.momo.momo_backend.entity.TipTag;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -40,6 +41,18 @@ public final class TipDto {
         private String thumbnailImageUrl;
     }
 
+    // AI 생성 작업 상태 응답 DTO (비동기 생성 모드)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class GenerationStatusResponse {
+        private String taskId;
+        private String status;          // PENDING | SUCCESS | FAILED
+        private CreateResponse result;  // SUCCESS일 때만
+        private String message;         // FAILED일 때 사유
+    }
+
     // 꿀팁 등록 요청 DTO
     @Getter
     @NoArgsConstructor
@@ -90,6 +103,14 @@ public final class TipDto {
         }
 
         public static DetailResponse from(Tip tip, Long storageNo) {
+            return from(tip, storageNo, tip.getTipTags().stream()
+                    .map(TipTag::getTag)
+                    .map(Tag::getName)
+                    .collect(Collectors.toList()));
+        }
+
+        // 태그 이름을 이미 알고 있을 때 (tipTags 컬렉션을 건드리지 않음)
+        public static DetailResponse from(Tip tip, Long storageNo, List<String> tags) {
             return DetailResponse.builder()
                     .no(tip.getNo())
                     .title(tip.getTitle())
@@ -99,20 +120,35 @@ public final class TipDto {
                     .nickname(tip.getUser().getNickname())
                     .thumbnailUrl(tip.getThumbnailUrl())
                     .isPublic(tip.getIsPublic())
-                    .tags(tip.getTipTags().stream()
-                            .map(TipTag::getTag)
-                            .map(Tag::getName)
-                            .collect(Collectors.toList()))
+                    .tags(tags)
                     .createdAt(tip.getCreatedAt())
                     .updatedAt(tip.getUpdatedAt())
                     .storageNo(storageNo)
                     .build();
         }
+
+        // 조회용 프로젝션 행에서 (엔티티 로딩 없음)
+        public static DetailResponse from(TipRow row, List<String> tags) {
+            return DetailResponse.builder()
+                    .no(row.no())
+                    .title(row.title())
+                    .contentSummary(row.contentSummary())
+                    .url(row.url())
+                    .userNo(row.userNo())
+                    .nickname(row.nickname())
+                    .thumbnailUrl(row.thumbnailUrl())
+                    .isPublic(row.isPublic())
+                    .tags(tags)
+                    .createdAt(row.createdAt())
+                    .updatedAt(row.updatedAt())
+                    .build();
+        }
     }
 
-    // 이번 주 북마크 랭킹 응답 DTO
+    // 이번 주 북마크 랭킹 응답 DTO (Redis 스냅샷으로도 저장되므로 역직렬화 지원)
     @Getter
     @Builder
+    @Jacksonized
     public static class WeeklyRankingResponse {
         private Long tipNo;
         private String title;
@@ -126,7 +162,11 @@ public final class TipDto {
             List<String> tagNames = tip.getTipTags().stream()
                     .map(tipTag -> tipTag.getTag().getName())
                     .collect(Collectors.toList());
+            return from(tip, weeklyBookmarkCount, tagNames);
+        }
 
+        // 태그 이름을 이미 해석한 경우 (TagDictionary 등)
+        public static WeeklyRankingResponse from(Tip tip, Long weeklyBookmarkCount, List<String> tagNames) {
             return WeeklyRankingResponse.builder()
                     .tipNo(tip.getNo())
                     .title(tip.getTitle())
@@ -137,5 +177,44 @@ public final class TipDto {
                     .weeklyBookmarkCount(weeklyBookmarkCount)
                     .build();
         }
+
+        public static WeeklyRankingResponse from(TipRow row, Long weeklyBookmarkCount, List<String> tagNames) {
+            return WeeklyRankingResponse.builder()
+                    .tipNo(row.no())
+                    .title(row.title())
+                    .thumbnailUrl(row.thumbnailUrl())
+                    .userNo(row.userNo())
+                    .nickname(row.nickname())
+                    .tags(tagNames)
+                    .weeklyBookmarkCount(weeklyBookmarkCount)
+                    .build();
+        }
+    }
+
+    // 기간/태그/그룹별 북마크 랭킹 응답 DTO
+    @Getter
+    @Builder
+    public static class RankingResponse {
+        private int rank;
+        private Long tipNo;
+        private String title;
+        private String thumbnailUrl;
+        private Long userNo;
+        private String nickname;
+        private List<String> tags;
+        private double score; // 기간별 북마크 수 (trending은 감쇠 점수)
+
+        public static RankingResponse from(int rank, TipRow row, double score, List<String> tags) {
+            return RankingResponse.builder()
+                    .rank(rank)
+                    .tipNo(row.no())
+                    .title(row.title())
+                    .thumbnailUrl(row.thumbnailUrl())
+                    .userNo(row.userNo())
+                    .nickname(row.nickname())
+                    .tags(tags)
+                    .score(score)
+                    .build();
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.momo.momo_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/검색 조회용 꿀팁 행 (JPQL 생성자 프로젝션: 엔티티/연관관계를 로딩하지 않음).
+ * 태그는 TipReadModel이 tip no 묶음으로 한 번에 채운다.
+ * TipSummaryCache의 Redis 값으로도 쓰이므로 필드 이름 없는 배열로 직렬화한다.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+public record TipRow(Long no,
+                     String title,
+                     String contentSummary,
+                     String url,
+                     Long userNo,
+                     String nickname,
+                     String thumbnailUrl,
+                     Boolean isPublic,
+                     LocalDateTime createdAt,
+                     LocalDateTime updatedAt) {
+
+    /** JPQL SELECT 절 (별칭 t = Tip, u = t.user) */
+    public static final String SELECT = "SELECT new com.momo.momo_backend.dto.TipRow("
+            + "t.no, t.title, t.contentSummary, t.url, u.no, u.nickname, t.thumbnailUrl, "
+            + "t.isPublic, t.createdAt, t.updatedAt) ";
+}
@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_user_tip", columnNames = {"user_no", "tip_no"}))
 @Getter
 @Setter
 @NoArgsConstructor
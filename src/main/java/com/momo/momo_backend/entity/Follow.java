@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "follow")
+@Table(name = "follow",
+        indexes = @Index(name = "idx_follow_following_follower", columnList = "following_no, follower_no"))
 @Getter
 @Setter
 @NoArgsConstructor
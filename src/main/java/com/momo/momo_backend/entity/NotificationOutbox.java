@@ -0,0 +1,49 @@
+package com.momo.momo_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 알림 아웃박스.
+ * 알림 저장과 같은 트랜잭션에서 기록되고, NotificationOutboxRelay가 no 순서대로 전달 후 published_at을 채운다.
+ * (읽기/쓰기는 JDBC로 하며 엔티티는 스키마 정의용)
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_pending", columnList = "published_at, no"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long no; // 전달 순서
+
+    @Column(name = "recipient_no", nullable = false)
+    private Long recipientNo;
+
+    @Column(name = "tip_no")
+    private Long tipNo; // 없으면 null
+
+    @Column(name = "message", nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // null이면 미전달
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Builder.Default
+    @Column(name = "dead", nullable = false)
+    private boolean dead = false; // 재시도 한도 초과로 포기한 행
+}
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "storage_tip")
+@Table(name = "storage_tip",
+        uniqueConstraints = @UniqueConstraint(name = "uk_storage_tip_storage_tip", columnNames = {"storage_no", "tip_no"}))
 @Getter
 @Setter
 @NoArgsConstructor
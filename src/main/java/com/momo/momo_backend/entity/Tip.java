@@ -1,5 +1,6 @@
 package com.momo.momo_backend.entity;
 
+import com.momo.momo_backend.search.SearchTokenizer;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tip")
+@Table(name = "tip", indexes = {
+        @Index(name = "idx_tip_created_at_no", columnList = "created_at, no"),
+        @Index(name = "idx_tip_user_created_at_no", columnList = "user_no, created_at, no")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +50,10 @@ public class Tip {
     @Column(name = "task_id")
     private String taskId;
 
+    // 전문 검색용 토큰 (제목/요약/URL, 한글 n-gram). GIN 인덱스: TipSearchIndexInitializer
+    @Column(name = "search_tokens", columnDefinition = "TEXT")
+    private String searchTokens;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -71,6 +78,12 @@ public class Tip {
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
+        refreshSearchTokens();
+    }
+
+    @PreUpdate
+    public void refreshSearchTokens() {
+        this.searchTokens = SearchTokenizer.indexTokens(title, contentSummary, url);
     }
 
     @Builder
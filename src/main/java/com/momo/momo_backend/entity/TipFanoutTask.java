@@ -0,0 +1,80 @@
+package com.momo.momo_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로워 알림 팬아웃 작업.
+ * 꿀팁 등록 트랜잭션에서 함께 기록되고, 워커가 팔로워 no 순서로 페이지 단위 처리하며 cursor를 전진시킨다.
+ */
+@Entity
+@Table(name = "tip_fanout_task",
+        indexes = @Index(name = "idx_tip_fanout_task_status", columnList = "status, no"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TipFanoutTask {
+
+    public enum Status { PENDING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long no;
+
+    @Column(name = "tip_no", nullable = false)
+    private Long tipNo;
+
+    @Column(name = "author_no", nullable = false)
+    private Long authorNo;
+
+    @Column(name = "message", nullable = false, length = 500)
+    private String message;
+
+    @Builder.Default
+    @Column(name = "cursor_no", nullable = false)
+    private Long cursorNo = 0L; // 마지막으로 알림을 만든 follower no
+
+    @Builder.Default
+    @Column(name = "delivered", nullable = false)
+    private long delivered = 0;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Version
+    private Long version; // 여러 노드가 같은 작업을 동시에 진행하지 않도록
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void advance(Long lastFollowerNo, int count) {
+        this.cursorNo = lastFollowerNo;
+        this.delivered += count;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void finish() {
+        this.status = Status.DONE;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void recordFailure(int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) this.status = Status.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
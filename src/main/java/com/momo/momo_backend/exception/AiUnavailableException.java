@@ -0,0 +1,8 @@
+package com.momo.momo_backend.exception;
+
+/** AI 서버 장애로 서킷이 열려 호출 자체를 생략했을 때 */
+public class AiUnavailableException extends AiProcessingException {
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
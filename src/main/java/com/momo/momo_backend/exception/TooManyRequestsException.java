@@ -0,0 +1,8 @@
+package com.momo.momo_backend.exception;
+
+/** 동시 처리 한도를 넘어 요청을 받지 않을 때 (429) */
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,142 @@
+package com.momo.momo_backend.feed;
+
+import com.momo.momo_backend.dto.TipRow;
+import com.momo.momo_backend.realtime.events.TipCreatedEvent;
+import com.momo.momo_backend.repository.FollowRepository;
+import com.momo.momo_backend.repository.TipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 홈 피드 쓰기 팬아웃.
+ * - 새 공개 꿀팁 커밋 이후 작성자의 팔로워 타임라인에 (tip no, 작성자 no)를 밀어 넣는다
+ * - 팔로워가 celebrityFollowerThreshold 이상인 작성자는 셀럽으로 표시하고 쓰기 팬아웃 대신
+ *   작성자 타임라인에만 기록 → 팔로워가 읽을 때 병합 (FeedQueryService)
+ * - 팔로우/언팔로우 시 해당 작성자 항목을 채우거나 제거
+ * Redis 실패는 로그만 남긴다: 타임라인은 TTL 만료 후 DB에서 다시 만들어진다.
+ */
+@Slf4j
+@Component
+public class FeedFanoutWorker {
+
+    private final HomeTimelineStore store;
+    private final FollowRepository followRepository;
+    private final TipRepository tipRepository;
+    private final FeedProperties props;
+
+    private final ThreadPoolExecutor executor;
+    private final Counter pushed;
+    private final Counter celebrityPosts;
+
+    public FeedFanoutWorker(HomeTimelineStore store,
+                            FollowRepository followRepository,
+                            TipRepository tipRepository,
+                            FeedProperties props,
+                            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.followRepository = followRepository;
+        this.tipRepository = tipRepository;
+        this.props = props;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(10_000),
+                r -> {
+                    Thread t = new Thread(r, "feed-fanout-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        this.pushed = meterRegistry.counter("feed.fanout.pushed");
+        this.celebrityPosts = meterRegistry.counter("feed.fanout.celebrity");
+        Gauge.builder("feed.fanout.queue", executor.getQueue(), Collection::size)
+                .description("대기 중인 홈 피드 팬아웃 작업 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipCreated(TipCreatedEvent e) {
+        if (!e.isPublic()) return;
+        submit(() -> tipRepository.findRowByNo(e.tipId()).ifPresent(this::fanout));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFollowChanged(FollowChangedEvent e) {
+        submit(() -> {
+            store.evictFollowedCelebrities(e.followerNo());
+            if (!e.followed()) {
+                store.removeAuthor(e.followerNo(), e.followingNo());
+            } else if (!store.isCelebrity(e.followingNo())) {
+                // 셀럽은 읽을 때 병합되므로 채우지 않음
+                List<HomeTimelineStore.Entry> recent = tipRepository
+                        .findFeedKeysByAuthorNo(e.followingNo(), PageRequest.of(0, props.getBackfillOnFollow()))
+                        .stream().map(HomeTimelineStore.Entry::of).toList();
+                store.pushIfPresent(e.followerNo(), recent);
+            }
+        });
+    }
+
+    private void fanout(TipRow row) {
+        if (!Boolean.TRUE.equals(row.isPublic())) return;
+        HomeTimelineStore.Entry entry =
+                new HomeTimelineStore.Entry(row.no(), row.userNo(), HomeTimelineStore.epochMs(row.createdAt()));
+        store.pushToAuthor(entry);
+
+        boolean newlyCelebrity = false;
+        if (store.isCelebrity(row.userNo())
+                || followRepository.countByFollowing_No(row.userNo()) >= props.getCelebrityFollowerThreshold()) {
+            // 한 번 셀럽이 되면 유지: 이후 팁은 작성자 타임라인에서만 읽는다
+            newlyCelebrity = store.markCelebrity(row.userNo());
+            celebrityPosts.increment();
+            // 처음 표시된 경우: 팔로워의 셀럽 목록 캐시엔 아직 없으므로 이번 팁은 밀어 넣고 캐시를 비움
+            if (!newlyCelebrity) return;
+        }
+
+        long after = 0L;
+        while (true) {
+            List<Long> followerNos = followRepository.findFollowerNosAfter(
+                    row.userNo(), after, PageRequest.of(0, props.getFanoutPageSize()));
+            if (followerNos.isEmpty()) break;
+            store.pushToUsers(followerNos, entry);
+            if (newlyCelebrity) store.evictFollowedCelebrities(followerNos);
+            pushed.increment(followerNos.size());
+            if (followerNos.size() < props.getFanoutPageSize()) break;
+            after = followerNos.get(followerNos.size() - 1);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    log.warn("홈 피드 팬아웃 실패: {}", ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("홈 피드 팬아웃 대기열이 가득 차 건너뜀");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,38 @@
+package com.momo.momo_backend.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/** 팔로잉 홈 피드 설정 (feed.*) */
+@ConfigurationProperties(prefix = "feed")
+public class FeedProperties {
+    private int maxEntries = 800;                      // 사용자 타임라인 최대 길이
+    private int authorEntries = 200;                   // 작성자 타임라인 최대 길이 (셀럽 병합/팔로우 시 채우기)
+    private long celebrityFollowerThreshold = 10_000;  // 이 이상이면 쓰기 팬아웃 대신 읽을 때 병합
+    private Duration timelineTtl = Duration.ofDays(14); // 읽지 않는 사용자 타임라인은 만료 후 필요 시 재구성
+    private Duration celebrityCacheTtl = Duration.ofMinutes(10);
+    private int fanoutPageSize = 1_000;
+    private int backfillOnFollow = 20;                 // 새로 팔로우한 작성자의 최근 팁을 타임라인에 채우는 수
+
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    public int getAuthorEntries() { return authorEntries; }
+    public void setAuthorEntries(int authorEntries) { this.authorEntries = authorEntries; }
+
+    public long getCelebrityFollowerThreshold() { return celebrityFollowerThreshold; }
+    public void setCelebrityFollowerThreshold(long celebrityFollowerThreshold) { this.celebrityFollowerThreshold = celebrityFollowerThreshold; }
+
+    public Duration getTimelineTtl() { return timelineTtl; }
+    public void setTimelineTtl(Duration timelineTtl) { this.timelineTtl = timelineTtl; }
+
+    public Duration getCelebrityCacheTtl() { return celebrityCacheTtl; }
+    public void setCelebrityCacheTtl(Duration celebrityCacheTtl) { this.celebrityCacheTtl = celebrityCacheTtl; }
+
+    public int getFanoutPageSize() { return fanoutPageSize; }
+    public void setFanoutPageSize(int fanoutPageSize) { this.fanoutPageSize = fanoutPageSize; }
+
+    public int getBackfillOnFollow() { return backfillOnFollow; }
+    public void setBackfillOnFollow(int backfillOnFollow) { this.backfillOnFollow = backfillOnFollow; }
+}
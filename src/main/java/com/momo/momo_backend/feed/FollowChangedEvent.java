@@ -0,0 +1,4 @@
+package com.momo.momo_backend.feed;
+
+/** 팔로우(followed=true) / 언팔로우(false) 커밋 이후 타임라인 보정용 이벤트 */
+public record FollowChangedEvent(Long followerNo, Long followingNo, boolean followed) {}
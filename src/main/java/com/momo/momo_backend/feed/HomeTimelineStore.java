@@ -0,0 +1,245 @@
+package com.momo.momo_backend.feed;
+
+import com.momo.momo_backend.repository.TipRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 홈 피드 타임라인 Redis 저장소.
+ * - FEED:USER:{userNo}   사용자 타임라인 ZSET (member "{tipNo}:{authorNo}", score 등록 시각 ms, 최대 maxEntries)
+ * - FEED:AUTHOR:{userNo} 작성자 타임라인 ZSET (셀럽 읽기 병합 / 팔로우 시 채우기용, 최대 authorEntries)
+ * - FEED:CELEBRITIES     쓰기 팬아웃을 하지 않는 작성자 no 집합
+ * - FEED:USER:{userNo}:CELEBS 사용자가 팔로우하는 셀럽 no 캐시 (빈 집합은 "0")
+ * 타임라인은 조회 시 DB에서 통째로 만들고(score -1 센티널 포함), 이후 쓰기는 존재하는 타임라인에만 한다.
+ * 조회는 score 0 이상만 보므로 센티널은 드러나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineStore {
+
+    public record Entry(long tipNo, long authorNo, long createdAtMs) {
+        public static Entry of(TipRepository.TipFeedKey key) {
+            return new Entry(key.getTipNo(), key.getAuthorNo(), epochMs(key.getCreatedAt()));
+        }
+    }
+
+    public static long epochMs(LocalDateTime at) {
+        return at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static final String CELEBRITIES_KEY = "FEED:CELEBRITIES";
+    private static final String USER_PREFIX = "FEED:USER:";
+    private static final String AUTHOR_PREFIX = "FEED:AUTHOR:";
+    private static final String SENTINEL = "0:0";
+    private static final String NO_CELEBS = "0";
+
+    // 있는 타임라인에만 추가 후 센티널(rank 0) + 최신 ARGV[3]개만 유지
+    private static final String PUSH_IF_PRESENT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[3]) + 1))
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FeedProperties props;
+
+    // ===================== 쓰기 =====================
+
+    /**
+     * 여러 사용자 타임라인에 한 항목 추가 (파이프라인 한 번).
+     * 타임라인이 이미 있는 사용자(최근 피드를 읽은 사용자)에게만 쓰고, 없으면 다음 조회 때 재구성한다.
+     */
+    public void pushToUsers(Collection<Long> userNos, Entry entry) {
+        if (userNos.isEmpty()) return;
+        String member = member(entry);
+        String score = String.valueOf(entry.createdAtMs());
+        String keep = String.valueOf(props.getMaxEntries());
+        String ttl = String.valueOf(props.getTimelineTtl().toSeconds());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long userNo : userNos) {
+                conn.eval(PUSH_IF_PRESENT, ReturnType.INTEGER, 1, userKey(userNo), score, member, keep, ttl);
+            }
+            return null;
+        });
+    }
+
+    public void pushToAuthor(Entry entry) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> ((StringRedisConnection) connection)
+                .eval(PUSH_IF_PRESENT, ReturnType.INTEGER, 1, authorKey(entry.authorNo()),
+                        String.valueOf(entry.createdAtMs()), member(entry),
+                        String.valueOf(props.getAuthorEntries()), String.valueOf(props.getTimelineTtl().toSeconds())));
+    }
+
+    /** 타임라인 전체 교체 (콜드 재구성) */
+    public void replaceUserTimeline(long userNo, List<Entry> entries) {
+        String key = userKey(userNo);
+        long ttlSeconds = props.getTimelineTtl().toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(key);
+            conn.zAdd(key, -1, SENTINEL);
+            for (Entry e : entries) conn.zAdd(key, e.createdAtMs(), member(e));
+            conn.expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    public void replaceAuthorTimeline(long authorNo, List<Entry> entries) {
+        String key = authorKey(authorNo);
+        long ttlSeconds = props.getTimelineTtl().toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(key);
+            conn.zAdd(key, -1, SENTINEL);
+            for (Entry e : entries) conn.zAdd(key, e.createdAtMs(), member(e));
+            conn.expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    /** 타임라인이 있을 때만 항목 추가 (팔로우 시 채우기: 없으면 다음 조회 때 재구성) */
+    public void pushIfPresent(long userNo, List<Entry> entries) {
+        String key = userKey(userNo);
+        if (entries.isEmpty() || !Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) return;
+        ZSetOperations<String, String> zset = stringRedisTemplate.opsForZSet();
+        for (Entry e : entries) zset.add(key, member(e), e.createdAtMs());
+        zset.removeRange(key, 1, -(props.getMaxEntries() + 1L)); // rank 0은 센티널
+    }
+
+    /** 언팔로우한 작성자의 항목 제거 (타임라인은 최대 maxEntries라 전체 훑어도 가벼움) */
+    public void removeAuthor(long userNo, long authorNo) {
+        String key = userKey(userNo);
+        Set<String> members = stringRedisTemplate.opsForZSet().rangeByScore(key, 0, Double.MAX_VALUE);
+        if (members == null || members.isEmpty()) return;
+        String suffix = ":" + authorNo;
+        Object[] targets = members.stream().filter(m -> m.endsWith(suffix)).toArray();
+        if (targets.length > 0) stringRedisTemplate.opsForZSet().remove(key, targets);
+    }
+
+    public void removeFromUser(long userNo, Entry entry) {
+        stringRedisTemplate.opsForZSet().remove(userKey(userNo), member(entry));
+    }
+
+    // ===================== 읽기 =====================
+
+    public boolean hasUserTimeline(long userNo) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(userKey(userNo)));
+    }
+
+    public boolean hasAuthorTimeline(long authorNo) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(authorKey(authorNo)));
+    }
+
+    /** score(등록 시각) maxScore 이하에서 최신순 count건 */
+    public List<Entry> readUser(long userNo, double maxScore, int count) {
+        return read(userKey(userNo), maxScore, count);
+    }
+
+    public List<Entry> readAuthor(long authorNo, double maxScore, int count) {
+        return read(authorKey(authorNo), maxScore, count);
+    }
+
+    private List<Entry> read(String key, double maxScore, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, 0, maxScore, 0, count);
+        if (tuples == null) return List.of();
+        List<Entry> entries = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            Entry e = parse(t.getValue(), t.getScore());
+            if (e != null) entries.add(e);
+        }
+        return entries;
+    }
+
+    // ===================== 셀럽 =====================
+
+    /** 셀럽 표시. 이번 호출로 새로 표시됐으면 true */
+    public boolean markCelebrity(long authorNo) {
+        Long added = stringRedisTemplate.opsForSet().add(CELEBRITIES_KEY, String.valueOf(authorNo));
+        return added != null && added > 0;
+    }
+
+    public boolean isCelebrity(long authorNo) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(CELEBRITIES_KEY, String.valueOf(authorNo)));
+    }
+
+    public Set<String> celebrities() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(CELEBRITIES_KEY);
+        return members == null ? Set.of() : members;
+    }
+
+    /** 캐시된 팔로잉 셀럽 목록 (캐시 없으면 null) */
+    public List<Long> cachedFollowedCelebrities(long userNo) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(userKey(userNo) + ":CELEBS");
+        if (members == null || members.isEmpty()) return null;
+        return members.stream().filter(m -> !NO_CELEBS.equals(m)).map(Long::valueOf).toList();
+    }
+
+    public void cacheFollowedCelebrities(long userNo, List<Long> celebNos) {
+        String key = userKey(userNo) + ":CELEBS";
+        String[] values = celebNos.isEmpty()
+                ? new String[]{NO_CELEBS}
+                : celebNos.stream().map(String::valueOf).toArray(String[]::new);
+        stringRedisTemplate.opsForSet().add(key, values);
+        stringRedisTemplate.expire(key, props.getCelebrityCacheTtl());
+    }
+
+    public void evictFollowedCelebrities(long userNo) {
+        try {
+            stringRedisTemplate.delete(userKey(userNo) + ":CELEBS");
+        } catch (DataAccessException ignored) {
+            // TTL로 만료됨
+        }
+    }
+
+    public void evictFollowedCelebrities(Collection<Long> userNos) {
+        try {
+            stringRedisTemplate.delete(userNos.stream().map(no -> userKey(no) + ":CELEBS").toList());
+        } catch (DataAccessException ignored) {
+            // TTL로 만료됨
+        }
+    }
+
+    // ===================== 내부 =====================
+
+    private static String userKey(long userNo) {
+        return USER_PREFIX + userNo;
+    }
+
+    private static String authorKey(long authorNo) {
+        return AUTHOR_PREFIX + authorNo;
+    }
+
+    private static String member(Entry e) {
+        return e.tipNo() + ":" + e.authorNo();
+    }
+
+    private static Entry parse(String member, Double score) {
+        if (member == null || score == null || score < 0) return null;
+        int sep = member.indexOf(':');
+        if (sep <= 0) return null;
+        try {
+            return new Entry(Long.parseLong(member.substring(0, sep)),
+                    Long.parseLong(member.substring(sep + 1)),
+                    score.longValue());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.momo.momo_backend.notification;
+
+import com.momo.momo_backend.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 같은 팁/타입의 알림을 여러 수신자에게 JDBC 배치로 저장 (엔티티 생성/영속성 컨텍스트 우회) */
+@Component
+@RequiredArgsConstructor
+public class NotificationBulkWriter {
+
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notification (receiver_no, tip_no, type, is_read, created_at) VALUES (?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationProperties props;
+
+    public void insert(List<Long> receiverNos, Long tipNo, NotificationType type, LocalDateTime createdAt) {
+        if (receiverNos.isEmpty()) return;
+        Timestamp ts = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, receiverNos, props.getFanout().getInsertBatchSize(),
+                (ps, receiverNo) -> {
+                    ps.setLong(1, receiverNo);
+                    if (tipNo != null) ps.setLong(2, tipNo); else ps.setNull(2, Types.BIGINT);
+                    ps.setString(3, type.name());
+                    ps.setTimestamp(4, ts);
+                });
+    }
+}
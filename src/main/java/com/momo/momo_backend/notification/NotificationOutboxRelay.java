@@ -0,0 +1,167 @@
+package com.momo.momo_backend.notification;
+
+import com.momo.momo_backend.realtime.support.NotificationPusher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.MessagingException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 아웃박스 릴레이.
+ * - 미전달 행을 no 순서로 배치 조회 → 전송 → published_at 기록 (at-least-once: 전송 후 커밋 전 장애 시 재전송)
+ * - 트랜잭션 단위 advisory lock으로 한 번에 한 노드만 릴레이 → 수신자별 전달 순서 보장
+ * - 전송 실패 시 해당 행에서 배치를 멈추고 다음 주기에 재시도 (순서 유지), 한도 초과 행은 dead 처리
+ * - 미전달 건수 / 가장 오래된 미전달 행의 나이 / 적재→전달 지연을 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x6e6f7469_6f757462L; // "notioutb"
+
+    private static final String SELECT_PENDING = """
+            SELECT no, recipient_no, tip_no, message, created_at, attempts
+            FROM notification_outbox
+            WHERE published_at IS NULL
+            ORDER BY no
+            LIMIT ?
+            """;
+    private static final String MARK_PUBLISHED =
+            "UPDATE notification_outbox SET published_at = now() WHERE no = ANY(?)";
+    private static final String RECORD_FAILURE =
+            "UPDATE notification_outbox SET attempts = attempts + 1, dead = (attempts + 1 >= ?), "
+                    + "published_at = CASE WHEN attempts + 1 >= ? THEN now() ELSE NULL END WHERE no = ?";
+    private static final String BACKLOG =
+            "SELECT count(*), min(created_at) FROM notification_outbox WHERE published_at IS NULL";
+    private static final String PURGE_PUBLISHED =
+            "DELETE FROM notification_outbox WHERE published_at IS NOT NULL AND published_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPusher pusher;
+    private final TransactionTemplate tx;
+    private final NotificationProperties.Outbox conf;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+    private final Timer deliveryLag;
+
+    private record OutboxRow(long no, long recipientNo, Long tipNo, String message, Instant createdAt, int attempts) {}
+
+    public NotificationOutboxRelay(JdbcTemplate jdbcTemplate,
+                                   NotificationPusher pusher,
+                                   PlatformTransactionManager transactionManager,
+                                   NotificationProperties props,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pusher = pusher;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.conf = props.getOutbox();
+
+        this.published = meterRegistry.counter("notification.outbox.published");
+        this.failures = meterRegistry.counter("notification.outbox.failures");
+        this.deliveryLag = Timer.builder("notification.outbox.delivery.lag")
+                .description("아웃박스 적재부터 전송까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 아웃박스 행 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래 전달되지 않은 아웃박스 행의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < conf.getMaxBatchesPerRun(); i++) {
+                Integer relayed = tx.execute(status -> relayBatch());
+                if (relayed == null || relayed < conf.getBatchSize()) break;
+            }
+            refreshBacklog();
+        } catch (DataAccessException e) {
+            log.warn("알림 아웃박스 릴레이 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 한 배치 전달. 배치 전체를 전달했으면 그 수, 다른 노드가 릴레이 중이거나 중간에 멈췄으면 0 */
+    private Integer relayBatch() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) return 0;
+
+        List<OutboxRow> rows = jdbcTemplate.query(SELECT_PENDING, (rs, i) -> new OutboxRow(
+                rs.getLong("no"),
+                rs.getLong("recipient_no"),
+                rs.getObject("tip_no", Long.class),
+                rs.getString("message"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getInt("attempts")
+        ), conf.getBatchSize());
+
+        List<Long> done = new ArrayList<>(rows.size());
+        boolean stopped = false;
+        for (OutboxRow row : rows) {
+            try {
+                pusher.push(row.recipientNo(), row.tipNo(), row.message(), row.createdAt());
+                done.add(row.no());
+                deliveryLag.record(Duration.between(row.createdAt(), Instant.now()));
+            } catch (MessagingException e) {
+                failures.increment();
+                log.warn("알림 전송 실패 outboxNo={}, attempts={}, cause={}", row.no(), row.attempts() + 1, e.getMessage());
+                jdbcTemplate.update(RECORD_FAILURE, conf.getMaxAttempts(), conf.getMaxAttempts(), row.no());
+                stopped = true;
+                break;
+            }
+        }
+
+        if (!done.isEmpty()) {
+            jdbcTemplate.update(MARK_PUBLISHED, ps -> {
+                Array ids = ps.getConnection().createArrayOf("bigint", done.toArray());
+                ps.setArray(1, ids);
+            });
+            published.increment(done.size());
+        }
+        return stopped ? 0 : rows.size();
+    }
+
+    private void refreshBacklog() {
+        jdbcTemplate.query(BACKLOG, rs -> {
+            backlog.set(rs.getLong(1));
+            Timestamp oldest = rs.getTimestamp(2);
+            oldestPendingAgeSeconds.set(oldest == null ? 0
+                    : Math.max(0, Duration.between(oldest.toInstant(), Instant.now()).getSeconds()));
+        });
+    }
+
+    /** 전달 완료 행 정리 */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgePublished() {
+        try {
+            int purged = jdbcTemplate.update(PURGE_PUBLISHED,
+                    Timestamp.valueOf(LocalDateTime.now().minus(conf.getRetention())));
+            if (purged > 0) log.debug("알림 아웃박스 정리 {}건", purged);
+        } catch (DataAccessException e) {
+            log.warn("알림 아웃박스 정리 실패: {}", e.getMessage());
+        }
+    }
+}
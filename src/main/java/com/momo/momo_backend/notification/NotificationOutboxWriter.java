@@ -0,0 +1,42 @@
+package com.momo.momo_backend.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 실시간 알림을 아웃박스에 기록. 호출자의 트랜잭션 안에서만 동작 (알림 저장과 원자적으로 커밋) */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWriter {
+
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO notification_outbox (recipient_no, tip_no, message, created_at, attempts, dead) VALUES (?, ?, ?, ?, 0, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationProperties props;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long recipientNo, Long tipNo, String message) {
+        appendAll(List.of(recipientNo), tipNo, message);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<Long> recipientNos, Long tipNo, String message) {
+        if (recipientNos.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, recipientNos, props.getFanout().getInsertBatchSize(),
+                (ps, recipientNo) -> {
+                    ps.setLong(1, recipientNo);
+                    if (tipNo != null) ps.setLong(2, tipNo); else ps.setNull(2, Types.BIGINT);
+                    ps.setString(3, message);
+                    ps.setTimestamp(4, now);
+                });
+    }
+}
@@ -0,0 +1,66 @@
+package com.momo.momo_backend.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/** 알림 생성/전달 설정 (notification.*) */
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+    private Fanout fanout = new Fanout();
+    private Outbox outbox = new Outbox();
+
+    public Fanout getFanout() { return fanout; }
+    public void setFanout(Fanout fanout) { this.fanout = fanout; }
+
+    public Outbox getOutbox() { return outbox; }
+    public void setOutbox(Outbox outbox) { this.outbox = outbox; }
+
+    /** 새 공개 꿀팁 → 팔로워 알림 팬아웃 설정 */
+    public static class Fanout {
+        private int pageSize = 1_000;            // 한 트랜잭션에서 처리할 팔로워 수
+        private int insertBatchSize = 500;       // JDBC 배치 INSERT 크기
+        private int workers = 2;                 // 동시에 처리하는 팬아웃 작업 수
+        private long sweepIntervalMs = 30_000;   // 미완료 작업 재개 주기
+        private int maxAttempts = 5;
+
+        public int getPageSize() { return pageSize; }
+        public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+        public int getInsertBatchSize() { return insertBatchSize; }
+        public void setInsertBatchSize(int insertBatchSize) { this.insertBatchSize = insertBatchSize; }
+
+        public int getWorkers() { return workers; }
+        public void setWorkers(int workers) { this.workers = workers; }
+
+        public long getSweepIntervalMs() { return sweepIntervalMs; }
+        public void setSweepIntervalMs(long sweepIntervalMs) { this.sweepIntervalMs = sweepIntervalMs; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+    }
+
+    /** 실시간 알림 아웃박스 릴레이 설정 */
+    public static class Outbox {
+        private long relayIntervalMs = 500;      // 릴레이 주기
+        private int batchSize = 500;             // 한 트랜잭션에서 전달할 행 수
+        private int maxBatchesPerRun = 20;       // 한 주기에서 연속 처리할 최대 배치 수
+        private int maxAttempts = 10;            // 초과 시 해당 행은 dead 처리
+        private Duration retention = Duration.ofDays(1); // 전달 완료 행 보관 기간
+
+        public long getRelayIntervalMs() { return relayIntervalMs; }
+        public void setRelayIntervalMs(long relayIntervalMs) { this.relayIntervalMs = relayIntervalMs; }
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        public int getMaxBatchesPerRun() { return maxBatchesPerRun; }
+        public void setMaxBatchesPerRun(int maxBatchesPerRun) { this.maxBatchesPerRun = maxBatchesPerRun; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public Duration getRetention() { return retention; }
+        public void setRetention(Duration retention) { this.retention = retention; }
+    }
+}
@@ -0,0 +1,179 @@
+package com.momo.momo_backend.notification;
+
+import com.momo.momo_backend.entity.Tip;
+import com.momo.momo_backend.entity.TipFanoutTask;
+import com.momo.momo_backend.enums.NotificationType;
+import com.momo.momo_backend.repository.FollowRepository;
+import com.momo.momo_backend.repository.TipFanoutTaskRepository;
+import com.momo.momo_backend.repository.TipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 공개 꿀팁의 팔로워 알림 팬아웃.
+ * - 등록 트랜잭션에는 TipFanoutTask 한 건만 기록하고, 커밋 이후 워커 스레드에서 처리
+ * - 팔로워 no를 키셋 페이지로 읽어 페이지마다 (알림 배치 INSERT + cursor 전진)을 한 트랜잭션으로 커밋
+ * - 실시간 푸시는 같은 트랜잭션에서 아웃박스에 적재 (NotificationOutboxRelay가 전달)
+ * - 중단된 작업은 주기적 sweep이 cursor부터 재개
+ */
+@Slf4j
+@Component
+public class TipFanoutWorker {
+
+    private final TipFanoutTaskRepository taskRepository;
+    private final FollowRepository followRepository;
+    private final TipRepository tipRepository;
+    private final NotificationBulkWriter bulkWriter;
+    private final NotificationOutboxWriter outboxWriter;
+    private final TransactionTemplate tx;
+    private final NotificationProperties.Fanout conf;
+
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final Counter delivered;
+
+    public TipFanoutWorker(TipFanoutTaskRepository taskRepository,
+                           FollowRepository followRepository,
+                           TipRepository tipRepository,
+                           NotificationBulkWriter bulkWriter,
+                           NotificationOutboxWriter outboxWriter,
+                           PlatformTransactionManager transactionManager,
+                           NotificationProperties props,
+                           MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.followRepository = followRepository;
+        this.tipRepository = tipRepository;
+        this.bulkWriter = bulkWriter;
+        this.outboxWriter = outboxWriter;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.conf = props.getFanout();
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                conf.getWorkers(), conf.getWorkers(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "tip-fanout-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        this.delivered = meterRegistry.counter("notification.fanout.delivered");
+        Gauge.builder("notification.fanout.running", running, Set::size)
+                .description("처리 중인 팔로워 팬아웃 작업 수")
+                .register(meterRegistry);
+    }
+
+    /** 꿀팁 등록 트랜잭션 안에서 호출: 작업을 기록하고 커밋 이후 처리를 시작한다 */
+    public void enqueue(Tip tip, String message) {
+        TipFanoutTask task = taskRepository.save(TipFanoutTask.builder()
+                .tipNo(tip.getNo())
+                .authorNo(tip.getUser().getNo())
+                .message(message)
+                .build());
+        Long taskNo = task.getNo();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(taskNo);
+                }
+            });
+        } else {
+            dispatch(taskNo);
+        }
+    }
+
+    /** 재시작/실패 등으로 남은 작업 재개 */
+    @Scheduled(fixedDelayString = "${notification.fanout.sweep-interval-ms:30000}")
+    public void resumePending() {
+        taskRepository.findNosByStatus(TipFanoutTask.Status.PENDING, PageRequest.of(0, 100))
+                .forEach(this::dispatch);
+    }
+
+    private void dispatch(Long taskNo) {
+        if (!running.add(taskNo)) return; // 이 노드에서 이미 처리 중
+        try {
+            executor.execute(() -> {
+                try {
+                    run(taskNo);
+                } finally {
+                    running.remove(taskNo);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.remove(taskNo); // 다음 sweep에서 재시도
+        }
+    }
+
+    private void run(Long taskNo) {
+        try {
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(tx.execute(status -> processPage(taskNo)));
+            }
+        } catch (OptimisticLockingFailureException e) {
+            // 다른 노드가 같은 작업을 먼저 진행함 → 해당 노드에 맡김
+            log.debug("팬아웃 작업 경합 taskNo={}", taskNo);
+        } catch (RuntimeException e) {
+            log.warn("팬아웃 작업 실패 taskNo={}, cause={}", taskNo, e.getMessage());
+            tx.executeWithoutResult(status -> taskRepository.findById(taskNo)
+                    .ifPresent(t -> t.recordFailure(conf.getMaxAttempts())));
+        }
+    }
+
+    /** 한 페이지 처리. 다음 페이지가 남아 있으면 true */
+    private Boolean processPage(Long taskNo) {
+        TipFanoutTask task = taskRepository.findById(taskNo).orElse(null);
+        if (task == null || task.getStatus() != TipFanoutTask.Status.PENDING) return false;
+
+        // 처리 도중 팁이 삭제되었거나 비공개로 바뀌면 남은 팬아웃은 중단
+        Tip tip = tipRepository.findById(task.getTipNo()).orElse(null);
+        if (tip == null || !Boolean.TRUE.equals(tip.getIsPublic())) {
+            task.finish();
+            return false;
+        }
+
+        int pageSize = conf.getPageSize();
+        List<Long> followerNos = followRepository.findFollowerNosAfter(
+                task.getAuthorNo(), task.getCursorNo(), PageRequest.of(0, pageSize));
+
+        if (!followerNos.isEmpty()) {
+            bulkWriter.insert(followerNos, tip.getNo(), NotificationType.FOLLOWING_TIP_UPLOAD, LocalDateTime.now());
+            outboxWriter.appendAll(followerNos, tip.getNo(), task.getMessage());
+            task.advance(followerNos.get(followerNos.size() - 1), followerNos.size());
+            delivered.increment(followerNos.size());
+        }
+
+        boolean more = followerNos.size() == pageSize;
+        if (!more) task.finish();
+        return more;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.momo.momo_backend.ranking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 추가(+1)/삭제(-1) 이벤트.
+ * bookmarkedAt은 북마크가 만들어진 시각 (삭제 시에도 원래 생성 시각 → 같은 시간 버킷에서 차감)
+ * (userNo, tipNo)는 북마크 고유 키 (체크포인트 재생 시 중복 제거용)
+ */
+public record BookmarkChangedEvent(
+        Long tipNo,
+        Long userNo,
+        int delta,
+        LocalDateTime bookmarkedAt
+) {}
@@ -0,0 +1,500 @@
+package com.momo.momo_backend.ranking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.momo_backend.realtime.events.TipDeletedEvent;
+import com.momo.momo_backend.realtime.events.TipUpdatedEvent;
+import com.momo.momo_backend.search.TipPlacementChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 북마크 이벤트 기반 인메모리 랭킹 엔진.
+ * - 팁별 시간 버킷(최대 윈도 길이만큼 보관)으로 기간별 합계를 증분 유지, 정시마다 창 밖 버킷을 차감
+ * - all-time 누적 수, 반감기 기반 trending 점수
+ * - 태그/그룹 리더보드는 팁 메타데이터(공개 여부, 태그, 그룹)로 필터링
+ * - 노드 간에는 Redis pub/sub로 이벤트를 공유하고, 상태는 주기적으로 Redis에 체크포인트
+ * 조회는 메모리만 사용한다 (PostgreSQL은 기동 시 재구성/메타데이터 적재에만 사용).
+ */
+@Slf4j
+@Component
+public class RankingEngine implements MessageListener {
+
+    public static final String ALL_TIME = "all-time";
+    public static final String TRENDING = "trending";
+    public static final String CHANNEL = "ranking:bookmark-events";
+
+    private static final String CHECKPOINT_KEY = "RANKING:ENGINE:CHECKPOINT";
+    private static final long HOUR_MS = 3_600_000L;
+    private static final double TREND_EPSILON = 0.01;
+
+    private static final String SELECT_ALL_TIME = "SELECT tip_no, count(*) FROM bookmark GROUP BY tip_no";
+    private static final String SELECT_HOURLY_SINCE = """
+            SELECT tip_no, date_trunc('hour', created_at) AS bucket, count(*) AS cnt
+            FROM bookmark
+            WHERE created_at >= ?
+            GROUP BY tip_no, bucket
+            """;
+    private static final String SELECT_CREATED_AFTER =
+            "SELECT tip_no, user_no, created_at FROM bookmark WHERE created_at > ?";
+    private static final String SELECT_TIP_VISIBILITY = "SELECT no, is_public FROM tip WHERE no = ANY(?)";
+    private static final String SELECT_TIP_TAGS = "SELECT tip_no, tag_no FROM tip_tag WHERE tip_no = ANY(?)";
+    private static final String SELECT_TIP_GROUPS = """
+            SELECT DISTINCT st.tip_no, s.group_no
+            FROM storage_tip st
+              JOIN storage s ON s.no = st.storage_no
+            WHERE s.group_no IS NOT NULL AND st.tip_no = ANY(?)
+            """;
+
+    public record Entry(Long tipNo, double score) {}
+
+    /** 리더보드 범위: tagNo / groupNo 중 하나만 지정, 둘 다 null이면 전체 공개 팁 */
+    public record Scope(Long tagNo, Long groupNo) {
+        public static final Scope ALL = new Scope(null, null);
+    }
+
+    record TipMeta(boolean isPublic, long[] tagNos, long[] groupNos) {
+        static final TipMeta MISSING = new TipMeta(false, new long[0], new long[0]);
+
+        boolean matches(Scope scope) {
+            if (scope.groupNo() != null) return contains(groupNos, scope.groupNo());
+            if (!isPublic) return false;
+            return scope.tagNo() == null || contains(tagNos, scope.tagNo());
+        }
+
+        private static boolean contains(long[] values, long v) {
+            for (long x : values) if (x == v) return true;
+            return false;
+        }
+    }
+
+    /**
+     * Redis 체크포인트 형식 (기간별 합계는 시간 버킷에서 다시 계산).
+     * recent: 반영된 북마크 중 생성 시각이 재생 여유 구간 안인 것 ("{userNo}:{tipNo}" → 생성 시각 ms)
+     */
+    record Checkpoint(long savedAtMs,
+                      long currentHour,
+                      Map<Long, Long> allTime,
+                      Map<Long, Map<Long, Integer>> hourly,
+                      Map<Long, double[]> trending,
+                      Map<String, Long> recent) {}
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RankingProperties props;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Integer> windowHours = new LinkedHashMap<>();
+    private final int retentionHours;
+    private final double halfLifeMs;
+
+    // ---- 상태 (lock으로 보호) ----
+    private final Object lock = new Object();
+    private long currentHour;
+    private final NavigableMap<Long, Map<Long, Integer>> hourly = new TreeMap<>();     // hour → tip → delta
+    private final Map<String, Map<Long, Long>> windowTotals = new HashMap<>();         // window → tip → count
+    private final Map<Long, Long> allTime = new HashMap<>();
+    private final Map<Long, double[]> trending = new HashMap<>();                      // tip → {score, atMs}
+    private final Map<String, Long> recent = new HashMap<>();                          // 북마크 키 → 생성 시각 ms
+
+    private final Map<Long, TipMeta> meta = new ConcurrentHashMap<>();
+    private final List<LongConsumer> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean ready = false;
+
+    public RankingEngine(StringRedisTemplate stringRedisTemplate, JdbcTemplate jdbcTemplate,
+                         ObjectMapper objectMapper, RankingProperties props,
+                         RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.props = props;
+
+        props.getWindows().forEach((name, d) -> windowHours.put(name, (int) Math.max(1, d.toHours())));
+        this.retentionHours = windowHours.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        this.halfLifeMs = props.getTrendingHalfLife().toMillis();
+        windowHours.keySet().forEach(name -> windowTotals.put(name, new HashMap<>()));
+        this.currentHour = hourOf(System.currentTimeMillis());
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        Gauge.builder("ranking.engine.tips", allTime, Map::size)
+                .description("랭킹 엔진이 추적 중인 팁 수")
+                .register(meterRegistry);
+    }
+
+    /** 지원하는 기간 이름 목록 */
+    public Set<String> periods() {
+        Set<String> periods = new LinkedHashSet<>(windowHours.keySet());
+        periods.add(ALL_TIME);
+        periods.add(TRENDING);
+        return periods;
+    }
+
+    /** 점수가 바뀐 팁 no를 통지받을 리스너 등록 (로컬/원격 이벤트 모두) */
+    public void addChangeListener(LongConsumer listener) {
+        changeListeners.add(listener);
+    }
+
+    // ===================== 이벤트 입력 =====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookmarkChanged(BookmarkChangedEvent e) {
+        LocalDateTime at = e.bookmarkedAt() != null ? e.bookmarkedAt() : LocalDateTime.now();
+        long atMs = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        apply(e.tipNo(), e.userNo(), e.delta(), atMs);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                    nodeId + "|" + e.tipNo() + "|" + e.delta() + "|" + atMs + "|" + e.userNo());
+        } catch (DataAccessException ex) {
+            log.warn("랭킹 이벤트 전파 실패 tipNo={}, cause={}", e.tipNo(), ex.getMessage());
+        }
+    }
+
+    /** 다른 노드의 북마크 이벤트: "{nodeId}|{tipNo}|{delta}|{epochMs}|{userNo}" (userNo 없는 이전 형식도 허용) */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if ((parts.length != 4 && parts.length != 5) || nodeId.equals(parts[0])) return;
+        try {
+            Long userNo = parts.length == 5 && !"null".equals(parts[4]) ? Long.valueOf(parts[4]) : null;
+            apply(Long.parseLong(parts[1]), userNo, Integer.parseInt(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException ex) {
+            log.warn("잘못된 랭킹 이벤트: {}", parts[1]);
+        }
+    }
+
+    void apply(Long tipNo, Long userNo, int delta, long atMs) {
+        long nowMs = System.currentTimeMillis();
+        synchronized (lock) {
+            advanceTo(hourOf(nowMs));
+            if (userNo != null) {
+                String key = bookmarkKey(userNo, tipNo);
+                if (delta > 0 && atMs >= nowMs - props.getReplayMargin().toMillis()) recent.put(key, atMs);
+                else if (delta < 0) recent.remove(key);
+            }
+            allTime.merge(tipNo, (long) delta, RankingEngine::sumOrRemove);
+            addToBuckets(tipNo, hourOf(atMs), delta);
+
+            // 삭제(-1)도 원래 북마크 시각 기준으로 감쇠된 기여분만큼 차감
+            double[] trend = trending.computeIfAbsent(tipNo, k -> new double[]{0, nowMs});
+            trend[0] = decayed(trend, nowMs) + delta * decayFactor(nowMs - atMs);
+            trend[1] = nowMs;
+            if (Math.abs(trend[0]) < TREND_EPSILON) trending.remove(tipNo);
+        }
+        if (ready && !meta.containsKey(tipNo)) loadMeta(List.of(tipNo)); // 기동 중에는 일괄 적재
+        if (ready) changeListeners.forEach(l -> l.accept(tipNo));
+    }
+
+    private void addToBuckets(Long tipNo, long hour, long count) {
+        if (hour <= currentHour - retentionHours || hour > currentHour) return; // 보관 범위 밖
+        hourly.computeIfAbsent(hour, h -> new HashMap<>()).merge(tipNo, (int) count, RankingEngine::sumOrRemove);
+        windowHours.forEach((name, hours) -> {
+            if (hour > currentHour - hours) {
+                windowTotals.get(name).merge(tipNo, count, RankingEngine::sumOrRemove);
+            }
+        });
+    }
+
+    /** 시간이 흐르면 각 윈도에서 빠져나간 시간 버킷만큼 차감 */
+    private void advanceTo(long hour) {
+        if (hour <= currentHour) return;
+        if (hour - currentHour >= retentionHours) {
+            hourly.clear();
+            windowTotals.values().forEach(Map::clear);
+        } else {
+            for (long h = currentHour + 1; h <= hour; h++) {
+                for (Map.Entry<String, Integer> w : windowHours.entrySet()) {
+                    Map<Long, Integer> leaving = hourly.get(h - w.getValue());
+                    if (leaving == null) continue;
+                    Map<Long, Long> totals = windowTotals.get(w.getKey());
+                    leaving.forEach((tipNo, c) -> totals.merge(tipNo, (long) -c, RankingEngine::sumOrRemove));
+                }
+            }
+            hourly.headMap(hour - retentionHours, true).clear();
+        }
+        currentHour = hour;
+    }
+
+    // 공개 여부/태그/보관함 변경은 이 노드에서 커밋되면 바로 반영 (다른 노드 변경분은 주기 갱신으로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipUpdated(TipUpdatedEvent e) {
+        refreshMeta(e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipDeleted(TipDeletedEvent e) {
+        refreshMeta(e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipPlacementChanged(TipPlacementChangedEvent e) {
+        refreshMeta(e.tipNo());
+    }
+
+    private void refreshMeta(Long tipNo) {
+        // 추적하지 않는 팁은 북마크될 때 적재됨
+        if (!ready || tipNo == null || !meta.containsKey(tipNo)) return;
+        loadMeta(List.of(tipNo));
+        changeListeners.forEach(l -> l.accept(tipNo)); // 리더보드 구성이 바뀌었을 수 있음
+    }
+
+    // ===================== 조회 =====================
+
+    /** 기간/범위별 상위 limit개 (점수 내림차순) */
+    public List<Entry> top(String period, Scope scope, int limit) {
+        if (!periods().contains(period)) {
+            throw new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + period);
+        }
+        long nowMs = System.currentTimeMillis();
+        PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingDouble(Entry::score));
+        synchronized (lock) {
+            advanceTo(hourOf(nowMs));
+            if (TRENDING.equals(period)) {
+                trending.forEach((tipNo, t) -> offer(heap, limit, scope, tipNo, decayed(t, nowMs)));
+            } else {
+                Map<Long, Long> source = ALL_TIME.equals(period) ? allTime : windowTotals.get(period);
+                source.forEach((tipNo, c) -> offer(heap, limit, scope, tipNo, c));
+            }
+        }
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::tipNo));
+        return result;
+    }
+
+    private void offer(PriorityQueue<Entry> heap, int limit, Scope scope, Long tipNo, double score) {
+        if (score <= 0) return;
+        TipMeta m = meta.get(tipNo);
+        if (m == null || !m.matches(scope)) return;
+        if (heap.size() < limit) {
+            heap.add(new Entry(tipNo, score));
+        } else if (heap.peek() != null && heap.peek().score() < score) {
+            heap.poll();
+            heap.add(new Entry(tipNo, score));
+        }
+    }
+
+    // ===================== 메타데이터 =====================
+
+    /** 공개 여부 / 태그 / 그룹 정보 적재 (없는 팁은 MISSING → 어떤 리더보드에도 노출되지 않음) */
+    private void loadMeta(Collection<Long> tipNos) {
+        if (tipNos.isEmpty()) return;
+        try {
+            Map<Long, Boolean> visibility = new HashMap<>();
+            Map<Long, List<Long>> tags = new HashMap<>();
+            Map<Long, List<Long>> groups = new HashMap<>();
+            Long[] ids = tipNos.toArray(new Long[0]);
+
+            jdbcTemplate.query(SELECT_TIP_VISIBILITY, ps -> ps.setArray(1, bigintArray(ps.getConnection(), ids)),
+                    rs -> { visibility.put(rs.getLong(1), rs.getBoolean(2)); });
+            jdbcTemplate.query(SELECT_TIP_TAGS, ps -> ps.setArray(1, bigintArray(ps.getConnection(), ids)),
+                    rs -> { tags.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); });
+            jdbcTemplate.query(SELECT_TIP_GROUPS, ps -> ps.setArray(1, bigintArray(ps.getConnection(), ids)),
+                    rs -> { groups.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getLong(2)); });
+
+            for (Long tipNo : tipNos) {
+                Boolean isPublic = visibility.get(tipNo);
+                meta.put(tipNo, isPublic == null ? TipMeta.MISSING : new TipMeta(
+                        isPublic,
+                        tags.getOrDefault(tipNo, List.of()).stream().mapToLong(Long::longValue).toArray(),
+                        groups.getOrDefault(tipNo, List.of()).stream().mapToLong(Long::longValue).toArray()));
+            }
+        } catch (DataAccessException e) {
+            log.warn("랭킹 메타데이터 적재 실패 ({}건): {}", tipNos.size(), e.getMessage());
+        }
+    }
+
+    /** 태그/공개 여부/보관함 변경을 반영하기 위한 주기적 메타데이터 갱신 */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void refreshMeta() {
+        if (ready) reloadAllMeta();
+    }
+
+    private void reloadAllMeta() {
+        List<Long> tipNos;
+        synchronized (lock) {
+            tipNos = new ArrayList<>(allTime.keySet());
+        }
+        for (int i = 0; i < tipNos.size(); i += 1_000) {
+            loadMeta(tipNos.subList(i, Math.min(i + 1_000, tipNos.size())));
+        }
+        meta.keySet().retainAll(new HashSet<>(tipNos));
+    }
+
+    // ===================== 기동 / 체크포인트 =====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (!restoreCheckpoint()) rebuildFromDatabase();
+            reloadAllMeta();
+            ready = true;
+        } catch (DataAccessException e) {
+            log.warn("랭킹 엔진 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        if (!ready) return;
+        Checkpoint cp;
+        synchronized (lock) {
+            advanceTo(hourOf(System.currentTimeMillis()));
+            Map<Long, Map<Long, Integer>> hourlyCopy = new HashMap<>();
+            hourly.forEach((h, m) -> hourlyCopy.put(h, new HashMap<>(m)));
+            Map<Long, double[]> trendingCopy = new HashMap<>();
+            trending.forEach((k, v) -> trendingCopy.put(k, v.clone()));
+            long nowMs = System.currentTimeMillis();
+            long replayFromMs = nowMs - props.getReplayMargin().toMillis();
+            recent.values().removeIf(atMs -> atMs < replayFromMs); // 재생 구간 밖은 다시 읽히지 않음
+            cp = new Checkpoint(nowMs, currentHour,
+                    new HashMap<>(allTime), hourlyCopy, trendingCopy, new HashMap<>(recent));
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, objectMapper.writeValueAsString(cp),
+                    props.getMaxCheckpointAge().multipliedBy(2));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("랭킹 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 체크포인트 복원 후 그 이후 생성된 북마크를 DB에서 재생. 쓸 만한 체크포인트가 없으면 false.
+     * created_at은 커밋이 아니라 INSERT 시각이라 저장 직후 늦게 커밋된 북마크는 savedAt보다 앞설 수 있음
+     * → replayMargin만큼 앞에서부터 읽고, 체크포인트에 이미 반영된 북마크 키(recent)는 건너뜀
+     */
+    private boolean restoreCheckpoint() {
+        String json = stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        if (json == null) return false;
+        Checkpoint cp;
+        try {
+            cp = objectMapper.readValue(json, Checkpoint.class);
+        } catch (JsonProcessingException e) {
+            log.warn("랭킹 체크포인트 해석 실패, DB에서 재구성: {}", e.getMessage());
+            return false;
+        }
+        long ageMs = System.currentTimeMillis() - cp.savedAtMs();
+        if (ageMs > props.getMaxCheckpointAge().toMillis()) return false;
+
+        synchronized (lock) {
+            clearState(cp.currentHour());
+            allTime.putAll(cp.allTime());
+            cp.trending().forEach((k, v) -> trending.put(k, v.clone()));
+            cp.hourly().forEach((hour, tips) -> tips.forEach((tipNo, c) -> addToBuckets(tipNo, hour, c)));
+            if (cp.recent() != null) recent.putAll(cp.recent());
+        }
+
+        // 체크포인트 이후 추가분 재생 (그 사이 삭제분은 다음 전체 재구성 때 반영)
+        Map<String, Long> applied = cp.recent() != null ? cp.recent() : Map.of();
+        long sinceMs = cp.savedAtMs() - props.getReplayMargin().toMillis();
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(sinceMs), ZoneId.systemDefault());
+        int[] replayed = {0};
+        jdbcTemplate.query(SELECT_CREATED_AFTER, rs -> {
+            long tipNo = rs.getLong(1);
+            long userNo = rs.getLong(2);
+            if (applied.containsKey(bookmarkKey(userNo, tipNo))) return;
+            apply(tipNo, userNo, 1, rs.getTimestamp(3).getTime());
+            replayed[0]++;
+        }, Timestamp.valueOf(since));
+        log.info("랭킹 체크포인트 복원: {}개 팁, 재생 {}건", cp.allTime().size(), replayed[0]);
+        return true;
+    }
+
+    private void rebuildFromDatabase() {
+        long nowMs = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofHours(retentionHours));
+        Map<Long, Long> allTimeRows = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_TIME, rs -> { allTimeRows.put(rs.getLong(1), rs.getLong(2)); });
+
+        synchronized (lock) {
+            clearState(hourOf(nowMs));
+            allTime.putAll(allTimeRows);
+        }
+        jdbcTemplate.query(SELECT_HOURLY_SINCE, rs -> {
+            long tipNo = rs.getLong("tip_no");
+            long bucketMs = rs.getTimestamp("bucket").getTime();
+            long cnt = rs.getLong("cnt");
+            synchronized (lock) {
+                addToBuckets(tipNo, hourOf(bucketMs), cnt);
+                double[] trend = trending.computeIfAbsent(tipNo, k -> new double[]{0, nowMs});
+                trend[0] += cnt * decayFactor(nowMs - (bucketMs + HOUR_MS / 2));
+            }
+        }, Timestamp.valueOf(since));
+        // 다음 체크포인트의 재생 중복 제거용: 재구성에 이미 포함된 최근 북마크 키
+        long replayFromMs = nowMs - props.getReplayMargin().toMillis();
+        jdbcTemplate.query(SELECT_CREATED_AFTER, rs -> {
+            synchronized (lock) {
+                recent.put(bookmarkKey(rs.getLong(2), rs.getLong(1)), rs.getTimestamp(3).getTime());
+            }
+        }, new Timestamp(replayFromMs));
+        log.info("랭킹 엔진 DB 재구성: {}개 팁", allTimeRows.size());
+    }
+
+    private void clearState(long hour) {
+        currentHour = hour;
+        recent.clear();
+        hourly.clear();
+        windowTotals.values().forEach(Map::clear);
+        allTime.clear();
+        trending.clear();
+    }
+
+    // ===================== 유틸 =====================
+
+    private static String bookmarkKey(long userNo, long tipNo) {
+        return userNo + ":" + tipNo;
+    }
+
+    private static long hourOf(long epochMs) {
+        return Math.floorDiv(epochMs, HOUR_MS);
+    }
+
+    private double decayFactor(long elapsedMs) {
+        return Math.pow(0.5, Math.max(0, elapsedMs) / halfLifeMs);
+    }
+
+    private double decayed(double[] trend, long nowMs) {
+        return trend[0] * decayFactor(nowMs - (long) trend[1]);
+    }
+
+    private static Long sumOrRemove(Long a, Long b) {
+        long sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+
+    private static Integer sumOrRemove(Integer a, Integer b) {
+        int sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+
+    private static Array bigintArray(Connection con, Long[] ids) throws SQLException {
+        return con.createArrayOf("bigint", ids);
+    }
+}
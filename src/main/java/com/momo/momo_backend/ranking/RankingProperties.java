@@ -0,0 +1,44 @@
+package com.momo.momo_backend.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 북마크 랭킹 엔진 설정 (ranking.*) */
+@ConfigurationProperties(prefix = "ranking")
+public class RankingProperties {
+    // 기간 이름 → 슬라이딩 윈도 길이 (시간 단위로 집계). all-time / trending은 항상 제공
+    private Map<String, Duration> windows = new LinkedHashMap<>(Map.of(
+            "daily", Duration.ofHours(24),
+            "weekly", Duration.ofDays(7),
+            "monthly", Duration.ofDays(30)));
+    private Duration trendingHalfLife = Duration.ofHours(6);
+    private long checkpointIntervalMs = 60_000;
+    private Duration maxCheckpointAge = Duration.ofHours(1); // 이보다 오래된 체크포인트는 버리고 DB에서 재구성
+    private Duration replayMargin = Duration.ofMinutes(5);   // 복원 시 체크포인트 시각보다 이만큼 앞부터 재생 (늦게 커밋된 북마크)
+    private Duration resultCacheTtl = Duration.ofSeconds(5);
+    private int maxLimit = 100;
+
+    public Map<String, Duration> getWindows() { return windows; }
+    public void setWindows(Map<String, Duration> windows) { this.windows = windows; }
+
+    public Duration getTrendingHalfLife() { return trendingHalfLife; }
+    public void setTrendingHalfLife(Duration trendingHalfLife) { this.trendingHalfLife = trendingHalfLife; }
+
+    public long getCheckpointIntervalMs() { return checkpointIntervalMs; }
+    public void setCheckpointIntervalMs(long checkpointIntervalMs) { this.checkpointIntervalMs = checkpointIntervalMs; }
+
+    public Duration getMaxCheckpointAge() { return maxCheckpointAge; }
+    public void setMaxCheckpointAge(Duration maxCheckpointAge) { this.maxCheckpointAge = maxCheckpointAge; }
+
+    public Duration getReplayMargin() { return replayMargin; }
+    public void setReplayMargin(Duration replayMargin) { this.replayMargin = replayMargin; }
+
+    public Duration getResultCacheTtl() { return resultCacheTtl; }
+    public void setResultCacheTtl(Duration resultCacheTtl) { this.resultCacheTtl = resultCacheTtl; }
+
+    public int getMaxLimit() { return maxLimit; }
+    public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+}
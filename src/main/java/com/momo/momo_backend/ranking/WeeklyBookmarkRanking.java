@@ -0,0 +1,155 @@
+package com.momo.momo_backend.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 최근 7일 북마크 수 랭킹 (Redis ZSET).
+ * - 북마크 변경마다 해당 시각의 시간 버킷 ZSET에 ZINCRBY (member = tipNo)
+ * - 조회 시 최근 168개 버킷을 ZUNIONSTORE로 합친 뒤 상위 N개만 읽음
+ * - 버킷은 8일 뒤 만료되어 창 밖 데이터가 자연스럽게 빠짐
+ * - Redis가 비어 있으면(최초 기동/유실) DB에서 최근 7일을 임시 키에 재구성한 뒤 RENAME으로 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyBookmarkRanking {
+
+    public record RankedTip(Long tipNo, long count) {}
+
+    private static final String BUCKET_PREFIX = "RANKING:BOOKMARK:H:";
+    private static final String WEEKLY_KEY = "RANKING:BOOKMARK:WEEKLY";
+    private static final String READY_KEY = "RANKING:BOOKMARK:READY";
+    private static final String REBUILD_LOCK_KEY = "RANKING:BOOKMARK:REBUILDING";
+    private static final String REBUILD_PREFIX = "RANKING:BOOKMARK:REBUILD:";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10); // 재구성 노드가 죽으면 만료 후 다음 기동에서 재시도
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int WINDOW_HOURS = 7 * 24;
+    private static final Duration BUCKET_TTL = Duration.ofDays(8);
+
+    private static final String SELECT_RECENT_BUCKETS = """
+            SELECT tip_no, date_trunc('hour', created_at) AS bucket, count(*) AS cnt
+            FROM bookmark
+            WHERE created_at >= ?
+            GROUP BY tip_no, bucket
+            """;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookmarkChanged(BookmarkChangedEvent e) {
+        LocalDateTime at = e.bookmarkedAt() != null ? e.bookmarkedAt() : LocalDateTime.now();
+        if (at.isBefore(LocalDateTime.now().minusHours(WINDOW_HOURS))) return; // 이미 창 밖
+        String key = bucketKey(at);
+        try {
+            stringRedisTemplate.opsForZSet().incrementScore(key, String.valueOf(e.tipNo()), e.delta());
+            stringRedisTemplate.expire(key, BUCKET_TTL);
+        } catch (DataAccessException ex) {
+            // 유실분은 READY 키 만료 후 재구성 시 DB 기준으로 복구
+            log.warn("북마크 랭킹 갱신 실패 tipNo={}, cause={}", e.tipNo(), ex.getMessage());
+        }
+    }
+
+    /** 최근 7일 상위 n개 (tipNo, 북마크 수) */
+    public List<RankedTip> top(int n) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> keys = new ArrayList<>(WINDOW_HOURS);
+        for (int h = 0; h < WINDOW_HOURS; h++) {
+            keys.add(bucketKey(now.minusHours(h)));
+        }
+
+        ZSetOperations<String, String> zset = stringRedisTemplate.opsForZSet();
+        zset.unionAndStore(keys.get(0), keys.subList(1, keys.size()), WEEKLY_KEY);
+        Set<ZSetOperations.TypedTuple<String>> tuples = zset.reverseRangeWithScores(WEEKLY_KEY, 0, n - 1L);
+        if (tuples == null) return List.of();
+
+        List<RankedTip> result = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            long count = t.getScore() != null ? Math.round(t.getScore()) : 0;
+            if (t.getValue() != null && count > 0) {
+                result.add(new RankedTip(Long.valueOf(t.getValue()), count));
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY))) return;
+            // 여러 노드가 동시에 기동해도 한 노드만 재구성. READY는 재구성이 끝난 뒤에만 세움
+            String token = UUID.randomUUID().toString();
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, REBUILD_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) return;
+            try {
+                rebuildFromDatabase(token);
+                stringRedisTemplate.opsForValue().set(READY_KEY, "1", BUCKET_TTL);
+            } finally {
+                stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+            }
+        } catch (DataAccessException e) {
+            log.warn("북마크 랭킹 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 키에 DB 집계를 채운 뒤 버킷별 RENAME으로 한 번에 교체.
+     * 절대값 ZADD를 운영 버킷에 직접 쓰면 그사이 들어온 ZINCRBY가 덮이고, 중간에 죽으면 일부만 채워진 채 남음.
+     * 집계 이후 교체 전까지 커밋된 증감은 잃을 수 있으나 그 창은 교체 구간으로 좁혀짐
+     */
+    private void rebuildFromDatabase(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusHours(WINDOW_HOURS).truncatedTo(ChronoUnit.HOURS);
+        String tempPrefix = REBUILD_PREFIX + token + ":";
+        Set<String> buckets = new HashSet<>();
+        int[] rows = {0};
+        try {
+            jdbcTemplate.query(SELECT_RECENT_BUCKETS, rs -> {
+                String bucket = bucketKey(rs.getTimestamp("bucket").toLocalDateTime());
+                String temp = tempPrefix + bucket;
+                stringRedisTemplate.opsForZSet().add(temp, String.valueOf(rs.getLong("tip_no")), rs.getLong("cnt"));
+                if (buckets.add(bucket)) stringRedisTemplate.expire(temp, REBUILD_LOCK_TTL);
+                rows[0]++;
+            }, Timestamp.valueOf(since));
+
+            for (int h = 0; h <= WINDOW_HOURS; h++) {
+                String bucket = bucketKey(now.minusHours(h));
+                if (buckets.contains(bucket)) {
+                    stringRedisTemplate.rename(tempPrefix + bucket, bucket);
+                    stringRedisTemplate.expire(bucket, BUCKET_TTL);
+                } else {
+                    stringRedisTemplate.delete(bucket); // DB에 없는 시간대의 남은 값 정리
+                }
+            }
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(buckets.stream().map(b -> tempPrefix + b).toList());
+            throw e;
+        }
+        log.info("북마크 랭킹 버킷 재구성: {}건", rows[0]);
+    }
+
+    private static String bucketKey(LocalDateTime at) {
+        return BUCKET_PREFIX + at.format(BUCKET_FORMAT);
+    }
+}
@@ -2,6 +2,7 @@ package com.momo.momo_backend.realtime;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @ConfigurationProperties(prefix = "realtime")
@@ -13,6 +14,10 @@ public class RealtimeProperties {
     private Topics topics = new Topics();
     private String schemaVersion = "v1";
     private List<String> corsAllowedOrigins = List.of("http://localhost:3000");
+    private List<Challenge> challenges = new ArrayList<>();
+    private long challengeRankIntervalMs = 1_000; // 챌린지 토픽당 최대 1프레임/주기
+    private Cluster cluster = new Cluster();
+    private Outbound outbound = new Outbound();
 
     public String getBroker() { return broker; }
     public void setBroker(String broker) { this.broker = broker; }
@@ -35,18 +40,138 @@ public class RealtimeProperties {
     public List<String> getCorsAllowedOrigins() { return corsAllowedOrigins; }
     public void setCorsAllowedOrigins(List<String> corsAllowedOrigins) { this.corsAllowedOrigins = corsAllowedOrigins; }
 
+    public List<Challenge> getChallenges() { return challenges; }
+    public void setChallenges(List<Challenge> challenges) { this.challenges = challenges; }
+
+    public long getChallengeRankIntervalMs() { return challengeRankIntervalMs; }
+    public void setChallengeRankIntervalMs(long challengeRankIntervalMs) { this.challengeRankIntervalMs = challengeRankIntervalMs; }
+
+    public Cluster getCluster() { return cluster; }
+    public void setCluster(Cluster cluster) { this.cluster = cluster; }
+
+    public Outbound getOutbound() { return outbound; }
+    public void setOutbound(Outbound outbound) { this.outbound = outbound; }
+
+    public boolean isRedisBroker() { return "redis".equalsIgnoreCase(broker); }
+
     public static class Topics {
         private String feed = "/topic/feed";
+        private String feedTagPrefix = "/topic/feed/tag/";         // + 태그 이름
+        private String feedAuthorPrefix = "/topic/feed/author/";   // + 작성자 userNo
+        private String feedInterests = "/topic/feed/interests";    // SUBSCRIBE 헤더 tags/authors로 관심사 지정
+        private int feedMaxInterests = 50;                         // 관심사 구독 하나에 받는 태그/작성자 수 한도
         private String challengeRank = "/topic/challenge/{id}/rank";
         private String userNotificationQueue = "/queue/notifications";
+        private String userGenerationQueue = "/queue/tip-generations";
 
         public String getFeed() { return feed; }
         public void setFeed(String feed) { this.feed = feed; }
 
+        public String getFeedTagPrefix() { return feedTagPrefix; }
+        public void setFeedTagPrefix(String feedTagPrefix) { this.feedTagPrefix = feedTagPrefix; }
+
+        public String getFeedAuthorPrefix() { return feedAuthorPrefix; }
+        public void setFeedAuthorPrefix(String feedAuthorPrefix) { this.feedAuthorPrefix = feedAuthorPrefix; }
+
+        public String getFeedInterests() { return feedInterests; }
+        public void setFeedInterests(String feedInterests) { this.feedInterests = feedInterests; }
+
+        public int getFeedMaxInterests() { return feedMaxInterests; }
+        public void setFeedMaxInterests(int feedMaxInterests) { this.feedMaxInterests = feedMaxInterests; }
+
         public String getChallengeRank() { return challengeRank; }
         public void setChallengeRank(String challengeRank) { this.challengeRank = challengeRank; }
 
         public String getUserNotificationQueue() { return userNotificationQueue; }
         public void setUserNotificationQueue(String userNotificationQueue) { this.userNotificationQueue = userNotificationQueue; }
+
+        public String getUserGenerationQueue() { return userGenerationQueue; }
+        public void setUserGenerationQueue(String userGenerationQueue) { this.userGenerationQueue = userGenerationQueue; }
+    }
+
+    /** 챌린지: 태그(선택) + 랭킹 기간으로 정의되는 리더보드 */
+    public static class Challenge {
+        private Long id;
+        private String name;
+        private String tag;                 // null이면 전체 공개 팁
+        private String period = "weekly";   // ranking.windows 이름 / all-time / trending
+        private int size = 20;
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getTag() { return tag; }
+        public void setTag(String tag) { this.tag = tag; }
+
+        public String getPeriod() { return period; }
+        public void setPeriod(String period) { this.period = period; }
+
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+    }
+
+    /** broker=redis: 노드 간 /topic, 개인 큐 메시지를 Redis pub/sub로 전달 */
+    public static class Cluster {
+        private String channelPrefix = "ws:";
+        private boolean presenceMirror = false;       // broker=redis가 아니어도 접속 정보를 Redis에 기록 (relay 다중 노드)
+        private long presenceTtlMs = 45_000;          // 하트비트가 끊긴 노드의 세션 정보 만료
+        private long presenceHeartbeatMs = 15_000;
+        private long presenceCacheMs = 1_000;         // 다른 노드 접속 조회 결과 캐시
+
+        public String getChannelPrefix() { return channelPrefix; }
+        public void setChannelPrefix(String channelPrefix) { this.channelPrefix = channelPrefix; }
+
+        public boolean isPresenceMirror() { return presenceMirror; }
+        public void setPresenceMirror(boolean presenceMirror) { this.presenceMirror = presenceMirror; }
+
+        public long getPresenceTtlMs() { return presenceTtlMs; }
+        public void setPresenceTtlMs(long presenceTtlMs) { this.presenceTtlMs = presenceTtlMs; }
+
+        public long getPresenceHeartbeatMs() { return presenceHeartbeatMs; }
+        public void setPresenceHeartbeatMs(long presenceHeartbeatMs) { this.presenceHeartbeatMs = presenceHeartbeatMs; }
+
+        public long getPresenceCacheMs() { return presenceCacheMs; }
+        public void setPresenceCacheMs(long presenceCacheMs) { this.presenceCacheMs = presenceCacheMs; }
+    }
+
+    /** 세션별 송신 버퍼 (느린 클라이언트가 다른 세션 전달을 막지 않도록) */
+    public static class Outbound {
+        public enum OverflowPolicy { DROP_OLDEST, TERMINATE }
+
+        private int workers = 4;                         // 세션 큐를 비우는 송신 스레드 수
+        private int maxQueuedMessages = 256;             // 세션당 대기 메시지 수
+        private int maxQueuedBytes = 512 * 1024;         // 세션당 대기 payload 바이트
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        private int sendTimeLimitMs = 10_000;            // 소켓 쓰기 한 번이 이보다 길면 세션 종료 (송신 버퍼 감시 스레드)
+        private int sendBufferSizeLimit = 512 * 1024;    // 쓰기 대기 중 전송 계층 버퍼 한도
+        private int messageSizeLimit = 64 * 1024;        // 수신 프레임 최대 크기
+        private int brokerSchedulerPoolSize = 2;
+
+        public int getWorkers() { return workers; }
+        public void setWorkers(int workers) { this.workers = workers; }
+
+        public int getMaxQueuedMessages() { return maxQueuedMessages; }
+        public void setMaxQueuedMessages(int maxQueuedMessages) { this.maxQueuedMessages = maxQueuedMessages; }
+
+        public int getMaxQueuedBytes() { return maxQueuedBytes; }
+        public void setMaxQueuedBytes(int maxQueuedBytes) { this.maxQueuedBytes = maxQueuedBytes; }
+
+        public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+
+        public int getSendTimeLimitMs() { return sendTimeLimitMs; }
+        public void setSendTimeLimitMs(int sendTimeLimitMs) { this.sendTimeLimitMs = sendTimeLimitMs; }
+
+        public int getSendBufferSizeLimit() { return sendBufferSizeLimit; }
+        public void setSendBufferSizeLimit(int sendBufferSizeLimit) { this.sendBufferSizeLimit = sendBufferSizeLimit; }
+
+        public int getMessageSizeLimit() { return messageSizeLimit; }
+        public void setMessageSizeLimit(int messageSizeLimit) { this.messageSizeLimit = messageSizeLimit; }
+
+        public int getBrokerSchedulerPoolSize() { return brokerSchedulerPoolSize; }
+        public void setBrokerSchedulerPoolSize(int brokerSchedulerPoolSize) { this.brokerSchedulerPoolSize = brokerSchedulerPoolSize; }
     }
 }
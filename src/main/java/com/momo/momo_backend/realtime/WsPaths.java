@@ -11,4 +11,5 @@ public final class WsPaths {
     public static final String TOPIC_CHALLENGE_RANK_FMT = "/topic/challenge/%d/rank"; // String.format 사용
 
     public static final String USER_QUEUE_NOTIFICATIONS = "/queue/notifications";
+    public static final String USER_QUEUE_TIP_GENERATIONS = "/queue/tip-generations";
 }
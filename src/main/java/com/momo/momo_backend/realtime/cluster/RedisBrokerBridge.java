@@ -0,0 +1,190 @@
+package com.momo.momo_backend.realtime.cluster;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * realtime.broker=redis: 노드마다 SimpleBroker를 그대로 두고 서버 발행 메시지만 Redis로 다른 노드에 전달.
+ * - /topic/**: 공용 채널 {prefix}broadcast 로 발행 → 모든 노드가 자기 SimpleBroker로 재전달
+ * - /user/{name}/**: 그 사용자의 세션이 있는 노드 채널 {prefix}node:{nodeId} 로만 발행
+ *   (로컬 세션은 기존 UserDestinationMessageHandler가 그대로 처리)
+ * Redis에서 받은 메시지는 헤더로 표시해 다시 발행되지 않게 한다.
+ * 프레임: "{원본 nodeId}\n{destination}\n{content-type}\n{내부 헤더}\n" + payload 바이트
+ * 내부 헤더: 이름이 momo로 시작하는 문자열 헤더(coalesce 키, 피드 라우팅 등)를 "이름=값"으로 \u001E 구분해 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "realtime.broker", havingValue = "redis")
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+
+    static final String RELAYED_HEADER = "momoRelayed";
+    private static final String FORWARDED_HEADER_PREFIX = "momo";
+    private static final String HEADER_SEPARATOR = "\u001E";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserSessionRegistry sessions;
+    private final MessageChannel brokerChannel;
+    private final String userPrefix;
+    private final String channelPrefix;
+    private final byte[] broadcastChannel;
+
+    private final Counter published;
+    private final Counter received;
+
+    public RedisBrokerBridge(StringRedisTemplate stringRedisTemplate,
+                             UserSessionRegistry sessions,
+                             @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                             RealtimeProperties props,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessions = sessions;
+        this.brokerChannel = brokerChannel;
+        String prefix = props.getUserDestinationPrefix();
+        this.userPrefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        this.channelPrefix = props.getCluster().getChannelPrefix();
+        this.broadcastChannel = (channelPrefix + "broadcast").getBytes(StandardCharsets.UTF_8);
+
+        this.published = meterRegistry.counter("realtime.bridge.messages", "direction", "out");
+        this.received = meterRegistry.counter("realtime.bridge.messages", "direction", "in");
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(channelPrefix + "broadcast"),
+                new ChannelTopic(nodeChannel(sessions.nodeId()))));
+    }
+
+    // ===================== 발행 (brokerChannel 인터셉터) =====================
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (headers.containsKey(RELAYED_HEADER)
+                || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) return message;
+
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            publish(broadcastChannel, destination, headers, payload);
+        } else if (destination.startsWith(userPrefix)) {
+            int end = destination.indexOf('/', userPrefix.length());
+            if (end > userPrefix.length()) {
+                String userName = destination.substring(userPrefix.length(), end);
+                for (String node : sessions.remoteNodesOf(userName)) {
+                    publish(nodeChannel(node).getBytes(StandardCharsets.UTF_8), destination, headers, payload);
+                }
+            }
+        }
+        return message; // 로컬 세션에는 원래대로 전달
+    }
+
+    private void publish(byte[] channel, String destination, MessageHeaders headers, byte[] payload) {
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + destination.length() + 64);
+        writeLine(frame, sessions.nodeId());
+        writeLine(frame, destination);
+        writeLine(frame, contentType != null ? contentType.toString() : "");
+        writeLine(frame, forwardedHeaders(headers));
+        frame.writeBytes(payload);
+        byte[] body = frame.toByteArray();
+        try {
+            stringRedisTemplate.execute((RedisCallback<Long>) conn -> conn.publish(channel, body));
+            published.increment();
+        } catch (DataAccessException e) {
+            // 다른 노드 세션에는 이번 메시지가 전달되지 않음 (로컬 전달은 계속)
+            log.warn("WS 메시지 Redis 전달 실패 dest={}, cause={}", destination, e.getMessage());
+        }
+    }
+
+    // ===================== 수신 (Redis → 로컬 SimpleBroker) =====================
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int p1 = indexOf(body, 0);
+        int p2 = indexOf(body, p1 + 1);
+        int p3 = indexOf(body, p2 + 1);
+        int p4 = indexOf(body, p3 + 1);
+        if (p1 < 0 || p2 < 0 || p3 < 0 || p4 < 0) {
+            log.warn("WS Redis 프레임 형식 오류 length={}", body.length);
+            return;
+        }
+        String origin = new String(body, 0, p1, StandardCharsets.UTF_8);
+        if (sessions.nodeId().equals(origin)) return; // 내가 발행한 공용 채널 메시지
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(new String(body, p1 + 1, p2 - p1 - 1, StandardCharsets.UTF_8));
+        String contentType = new String(body, p2 + 1, p3 - p2 - 1, StandardCharsets.UTF_8);
+        if (!contentType.isEmpty()) {
+            try {
+                accessor.setContentType(MimeType.valueOf(contentType));
+            } catch (InvalidMimeTypeException ignored) {
+                // 형식 없이 전달
+            }
+        }
+        for (String header : new String(body, p3 + 1, p4 - p3 - 1, StandardCharsets.UTF_8).split(HEADER_SEPARATOR)) {
+            int eq = header.indexOf('=');
+            if (eq > 0) accessor.setHeader(header.substring(0, eq), header.substring(eq + 1));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        byte[] payload = new byte[body.length - p4 - 1];
+        System.arraycopy(body, p4 + 1, payload, 0, payload.length);
+
+        brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        received.increment();
+    }
+
+    private static String forwardedHeaders(MessageHeaders headers) {
+        StringJoiner joined = new StringJoiner(HEADER_SEPARATOR);
+        headers.forEach((name, value) -> {
+            if (name.startsWith(FORWARDED_HEADER_PREFIX) && !RELAYED_HEADER.equals(name) && value instanceof String s) {
+                joined.add(name + "=" + s);
+            }
+        });
+        return joined.toString();
+    }
+
+    private String nodeChannel(String nodeId) {
+        return channelPrefix + "node:" + nodeId;
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, String value) {
+        out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    private static int indexOf(byte[] body, int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == '\n') return i;
+        }
+        return -1;
+    }
+}
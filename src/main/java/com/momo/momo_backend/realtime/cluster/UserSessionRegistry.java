@@ -0,0 +1,172 @@
+package com.momo.momo_backend.realtime.cluster;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자(Principal 이름) → 세션을 가진 노드 레지스트리 (접속 여부 판단 + 노드 라우팅).
+ * - 노드 안: sessionId → 사용자, 사용자 → 세션 수 (CONNECTED/DISCONNECT 이벤트로 갱신)
+ * - broker=redis 또는 presence-mirror: WS:NODES:{user} ZSET(member nodeId, score 만료 시각 ms)에 반영하고
+ *   주기적 하트비트로 연장. 노드가 죽으면 presenceTtlMs 뒤 자연히 빠진다.
+ * 개인 큐 푸시는 isOnline으로 먼저 걸러 접속하지 않은 사용자의 페이로드 생성/직렬화를 건너뛴다.
+ */
+@Slf4j
+@Component
+public class UserSessionRegistry {
+
+    private static final String NODES_PREFIX = "WS:NODES:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RealtimeProperties props;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final boolean mirrorEnabled;
+    private final boolean knowsAllSessions; // relay 다중 노드에서 Redis 기록이 없으면 다른 노드 접속을 알 수 없음
+
+    private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+    private final Map<String, Integer> sessionCountByUser = new ConcurrentHashMap<>();
+    // 다른 노드 조회 결과 (알림 릴레이 배치처럼 같은 사용자를 연달아 찾는 경우 Redis 왕복을 줄임). 비어 있지 않은 결과만
+    private final Cache<String, Set<String>> remoteNodesCache;
+
+    public UserSessionRegistry(StringRedisTemplate stringRedisTemplate, RealtimeProperties props,
+                               MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.props = props;
+        this.mirrorEnabled = props.isRedisBroker() || props.getCluster().isPresenceMirror();
+        this.knowsAllSessions = mirrorEnabled || !"relay".equalsIgnoreCase(props.getBroker());
+        this.remoteNodesCache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(props.getCluster().getPresenceCacheMs()))
+                .build();
+        Gauge.builder("realtime.presence.local_users", sessionCountByUser, Map::size)
+                .description("이 노드에 세션이 있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("realtime.presence.local_sessions", userBySession, Map::size)
+                .register(meterRegistry);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent e) {
+        Principal user = e.getUser();
+        String sessionId = (String) e.getMessage().getHeaders().get("simpSessionId");
+        if (user == null || sessionId == null) return; // 익명 세션은 개인 큐가 없음
+        if (userBySession.putIfAbsent(sessionId, user.getName()) != null) return;
+        if (sessionCountByUser.merge(user.getName(), 1, Integer::sum) == 1) {
+            mirror(List.of(user.getName()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent e) {
+        // 같은 세션의 DISCONNECT가 두 번 올 수 있으므로 sessionId 기준으로 한 번만 반영
+        String userName = userBySession.remove(e.getSessionId());
+        if (userName == null) return;
+        Integer left = sessionCountByUser.computeIfPresent(userName, (k, n) -> n > 1 ? n - 1 : null);
+        if (left == null) unmirror(userName);
+    }
+
+    /** 이 노드에 세션이 있는지 */
+    public boolean isLocal(String userName) {
+        return sessionCountByUser.containsKey(userName);
+    }
+
+    /** 어느 노드에든 세션이 있는지 (판단할 수 없으면 true) */
+    public boolean isOnline(String userName) {
+        if (isLocal(userName) || !knowsAllSessions) return true;
+        return !remoteNodesOf(userName).isEmpty();
+    }
+
+    /** 세션을 가진 다른 노드 id (Redis 기록을 쓰지 않으면 항상 비어 있음) */
+    public Set<String> remoteNodesOf(String userName) {
+        if (!mirrorEnabled) return Set.of();
+        Set<String> cached = remoteNodesCache.getIfPresent(userName);
+        if (cached != null) return cached;
+        Set<String> nodes = loadRemoteNodes(userName);
+        // 빈 결과는 캐시하지 않음 (방금 다른 노드에 접속한 사용자를 presence-cache-ms 동안 오프라인으로 보지 않도록)
+        if (!nodes.isEmpty()) remoteNodesCache.put(userName, nodes);
+        return nodes;
+    }
+
+    private Set<String> loadRemoteNodes(String userName) {
+        try {
+            Set<String> nodes = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(nodesKey(userName), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (nodes == null || nodes.isEmpty()) return Set.of();
+            Set<String> remote = new HashSet<>(nodes);
+            remote.remove(nodeId);
+            return Set.copyOf(remote);
+        } catch (DataAccessException ex) {
+            // 조회 실패 시 접속 중이라고 보지 않음 (알림은 DB에 남아 조회 API로 확인 가능)
+            log.warn("WS 세션 노드 조회 실패 user={}, cause={}", userName, ex.getMessage());
+            return Set.of();
+        }
+    }
+
+    /** 이 노드에 연결된 사용자들의 만료 시각 연장 */
+    @Scheduled(fixedDelayString = "${realtime.cluster.presence-heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!sessionCountByUser.isEmpty()) mirror(new ArrayList<>(sessionCountByUser.keySet()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessionCountByUser.keySet().forEach(this::unmirror);
+    }
+
+    private void mirror(Collection<String> userNames) {
+        if (!mirrorEnabled) return;
+        long ttl = props.getCluster().getPresenceTtlMs();
+        double expiresAt = System.currentTimeMillis() + ttl;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (String userName : userNames) {
+                    String key = nodesKey(userName);
+                    conn.zAdd(key, expiresAt, nodeId);
+                    conn.zRemRangeByScore(key, 0, System.currentTimeMillis()); // 죽은 노드 정리
+                    conn.pExpire(key, ttl);
+                }
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            log.warn("WS 세션 노드 기록 실패 count={}, cause={}", userNames.size(), ex.getMessage());
+        }
+    }
+
+    private void unmirror(String userName) {
+        if (!mirrorEnabled) return;
+        try {
+            stringRedisTemplate.opsForZSet().remove(nodesKey(userName), nodeId);
+        } catch (DataAccessException ex) {
+            // presenceTtlMs 뒤 만료됨
+            log.debug("WS 세션 노드 제거 실패 user={}, cause={}", userName, ex.getMessage());
+        }
+    }
+
+    private static String nodesKey(String userName) {
+        return NODES_PREFIX + userName;
+    }
+}
@@ -1,10 +1,22 @@
 package com.momo.momo_backend.realtime.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableScheduling
 public class RealtimeSchedulingConfig {
-    // 스케줄 Jobs 활성화 전용
+
+    // @Scheduled 작업용 스케줄러. TaskScheduler 빈(brokerTaskScheduler 등)이 여러 개라 Boot 자동 구성이 빠지고
+    // 이름이 taskScheduler인 빈이 없으면 단일 스레드로 돌아, 긴 작업(랭킹 메타 재적재 등)이 접속 하트비트를 밀어냄
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler ts = new ThreadPoolTaskScheduler();
+        ts.setPoolSize(poolSize);
+        ts.setThreadNamePrefix("scheduling-");
+        return ts;
+    }
 }
@@ -1,8 +1,16 @@
 package com.momo.momo_backend.realtime.config;
 
 import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.cluster.RedisBrokerBridge;
+import com.momo.momo_backend.realtime.outbound.BroadcastFrameEncoder;
+import com.momo.momo_backend.realtime.outbound.SessionOutboundBuffer;
+import com.momo.momo_backend.realtime.routing.FeedShardRouter;
 import com.momo.momo_backend.realtime.security.JwtStompChannelInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -14,6 +22,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -23,11 +34,14 @@ public class WsConfig implements WebSocketMessageBrokerConfigurer {
 
     private final RealtimeProperties props;
     private final JwtStompChannelInterceptor jwtStompChannelInterceptor;
+    private final ObjectProvider<RedisBrokerBridge> redisBrokerBridge;
+    private final SessionOutboundBuffer sessionOutboundBuffer;
+    private final FeedShardRouter feedShardRouter;
 
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
-    // relay or simple (default: simple)
+    // simple / relay / redis (default: simple)
     @Value("${realtime.broker:simple}")
     private String brokerMode;
 
@@ -63,10 +77,38 @@ public class WsConfig implements WebSocketMessageBrokerConfigurer {
         registration.interceptors(jwtStompChannelInterceptor);
     }
 
+    // 브로커가 만든 메시지는 세션별 송신 버퍼로 (느린 세션이 브로드캐스트를 막지 않도록)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(sessionOutboundBuffer);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        RealtimeProperties.Outbound outbound = props.getOutbound();
+        registration.setSendTimeLimit(outbound.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(outbound.getSendBufferSizeLimit())
+                .setMessageSizeLimit(outbound.getMessageSizeLimit())
+                .addDecoratorFactory(sessionOutboundBuffer.sessionTracker());
+    }
+
+    // SimpleBroker의 /topic 브로드캐스트는 구독자 공통 프레임 부분을 한 번만 인코딩 (relay는 구독자마다 payload가 달라 제외)
+    @Bean
+    public SmartInitializingSingleton broadcastFrameEncoderInstaller(BeanFactory beanFactory, MeterRegistry meterRegistry) {
+        return () -> {
+            if ("relay".equalsIgnoreCase(brokerMode)) return;
+            BroadcastFrameEncoder encoder = new BroadcastFrameEncoder("/topic/", meterRegistry);
+            beanFactory.getBean("subProtocolWebSocketHandler", SubProtocolWebSocketHandler.class)
+                    .getProtocolHandlers().stream()
+                    .filter(StompSubProtocolHandler.class::isInstance)
+                    .forEach(h -> ((StompSubProtocolHandler) h).setEncoder(encoder));
+        };
+    }
+
     @Bean
     public TaskScheduler brokerTaskScheduler() {
         ThreadPoolTaskScheduler ts = new ThreadPoolTaskScheduler();
-        ts.setPoolSize(2);
+        ts.setPoolSize(props.getOutbound().getBrokerSchedulerPoolSize());
         ts.setThreadNamePrefix("ws-broker-");
         ts.initialize();
         return ts;
@@ -87,7 +129,13 @@ public class WsConfig implements WebSocketMessageBrokerConfigurer {
             r.enableSimpleBroker("/topic", "/queue")
                     .setTaskScheduler(brokerTaskScheduler())
                     .setHeartbeatValue(new long[]{10000, 10000}); // 10s/10s
+            if ("redis".equalsIgnoreCase(brokerMode)) {
+                // 노드별 SimpleBroker + 서버 발행 메시지를 Redis pub/sub로 다른 노드에 전달
+                r.configureBrokerChannel().interceptors(redisBrokerBridge.getObject());
+            }
         }
+        // /topic/feed 이벤트를 태그/작성자 관심사 구독으로 분배
+        r.configureBrokerChannel().interceptors(feedShardRouter);
         r.setApplicationDestinationPrefixes(props.getAppPrefix());
         r.setUserDestinationPrefix(props.getUserDestinationPrefix());
     }
@@ -0,0 +1,25 @@
+package com.momo.momo_backend.realtime.controller;
+
+import com.momo.momo_backend.realtime.dto.ChallengeRankEvent;
+import com.momo.momo_backend.realtime.listener.ChallengeRankBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 챌린지 랭킹 초기 스냅샷.
+ * 클라이언트는 /app/challenge/{id}/rank를 한 번 구독해 전체 목록(full=true)을 받고,
+ * 이후 /topic/challenge/{id}/rank의 델타를 seq 순서대로 적용한다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChallengeRankSubscriptionController {
+
+    private final ChallengeRankBroadcaster broadcaster;
+
+    @SubscribeMapping("/challenge/{id}/rank")
+    public ChallengeRankEvent snapshot(@DestinationVariable Long id) {
+        return broadcaster.snapshot(id);
+    }
+}
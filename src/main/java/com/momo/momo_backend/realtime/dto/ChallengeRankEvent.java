@@ -0,0 +1,36 @@
+package com.momo.momo_backend.realtime.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * v1 스키마: 챌린지 랭킹 변경분. /topic/challenge/{id}/rank
+ * full=false면 바뀐 항목(changed)과 빠진 팁(removed)만 담긴 델타, seq로 순서/누락을 확인한다.
+ * full=true(구독 직후 스냅샷)면 changed가 전체 목록.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Jacksonized
+@Builder
+public record ChallengeRankEvent(
+        String type,              // EventTypes.CHALLENGE_RANK
+        Long challengeId,
+        long seq,
+        boolean full,
+        List<RankEntry> changed,
+        List<Long> removed,
+        Instant createdAt,
+        String v
+) {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record RankEntry(
+            Long tipId,
+            int rank,
+            double score,
+            String title,         // 새로 진입한 항목에만 포함
+            String thumbnailUrl
+    ) {}
+}
@@ -7,4 +7,7 @@ public final class EventTypes {
     public static final String TIP_NEW = "tip:new";
     public static final String NOTIFICATION_NEW = "notification:new";
     public static final String TIP_UPDATE = "tip:update";
+    public static final String TIP_GENERATED = "tip:generated";
+    public static final String TIP_GENERATION_FAILED = "tip:generation-failed";
+    public static final String CHALLENGE_RANK = "challenge:rank";
 }
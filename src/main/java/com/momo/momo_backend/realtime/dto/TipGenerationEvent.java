@@ -0,0 +1,21 @@
+package com.momo.momo_backend.realtime.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.momo.momo_backend.dto.TipDto;
+import lombok.Builder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+
+/** v1 스키마: 비동기 AI 생성 작업 완료/실패를 요청자 개인 큐로 전달 */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Jacksonized
+@Builder
+public record TipGenerationEvent(
+        String type,                    // EventTypes.TIP_GENERATED | TIP_GENERATION_FAILED
+        String taskId,                  // /api/tips/generate/async 응답의 taskId
+        TipDto.CreateResponse result,   // 성공 시 미리보기 결과
+        String message,                 // 실패 사유
+        Instant createdAt,
+        String v
+) {}
@@ -1,4 +1,4 @@
 package com.momo.momo_backend.realtime.events;
 
-/** DB 커밋 이후 새 꿀팁이 생겼음을 알리는 최소 이벤트 */
-public record TipCreatedEvent(Long tipId) {}
+/** DB 커밋 이후 새 꿀팁이 생겼음을 알리는 최소 이벤트 (비공개 팁은 피드로 내보내지 않음) */
+public record TipCreatedEvent(Long tipId, boolean isPublic) {}
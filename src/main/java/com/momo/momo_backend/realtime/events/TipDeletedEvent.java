@@ -0,0 +1,4 @@
+package com.momo.momo_backend.realtime.events;
+
+/** DB 커밋 이후 꿀팁이 삭제되었음을 알리는 이벤트 */
+public record TipDeletedEvent(Long tipId) {}
@@ -0,0 +1,259 @@
+package com.momo.momo_backend.realtime.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.momo_backend.cache.TagDictionary;
+import com.momo.momo_backend.ranking.RankingEngine;
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.dto.ChallengeRankEvent;
+import com.momo.momo_backend.realtime.events.TipDeletedEvent;
+import com.momo.momo_backend.realtime.events.TipUpdatedEvent;
+import com.momo.momo_backend.realtime.support.EventPayloadFactory;
+import com.momo.momo_backend.realtime.support.TipQueryPort;
+import com.momo.momo_backend.realtime.support.TipSummaryView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지 랭킹 브로드캐스터.
+ * - 북마크 이벤트(RankingEngine 변경 통지)는 dirty 표시만 하고
+ * - 주기(realtime.challenge-rank-interval-ms)마다 dirty인 챌린지만 다시 계산해 직전 프레임과의 차이만 전송
+ * 따라서 북마크가 몰려도 토픽당 주기당 최대 1프레임이며, 순위 변화가 없으면 보내지 않는다.
+ * 다중 노드(broker=relay/redis)에서는 챌린지마다 Redis 리스(SET NX PX)를 가진 노드만 계산/전송하고,
+ * 나머지 노드는 리더가 기록한 마지막 프레임(seq 포함)을 따라가 구독 직후 스냅샷과 이후 델타의 seq가 이어지게 한다.
+ */
+@Slf4j
+@Component
+public class ChallengeRankBroadcaster {
+
+    /** 마지막으로 전송한 랭킹 (seq와 함께 원자적으로 교체) */
+    private record Frame(long seq, List<ChallengeRankEvent.RankEntry> entries) {}
+
+    private static final class Board {
+        final RealtimeProperties.Challenge challenge;
+        volatile boolean dirty = true;
+        volatile Frame last = new Frame(0, List.of());
+        final Set<Long> stale = ConcurrentHashMap.newKeySet(); // 표시 정보/공개 여부를 다시 확인할 팁
+
+        Board(RealtimeProperties.Challenge challenge) {
+            this.challenge = challenge;
+        }
+    }
+
+    private static final String LEADER_KEY_PREFIX = "CHALLENGE:RANK:LEADER:";
+    private static final String FRAME_KEY_PREFIX = "CHALLENGE:RANK:FRAME:";
+    private static final Duration FRAME_TTL = Duration.ofDays(1);
+
+    // 1: 연장, 2: 새로 획득, 0: 다른 노드가 보유
+    private static final RedisScript<Long> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+              return 2
+            end
+            return 0
+            """, Long.class);
+
+    private final SimpMessagingTemplate messaging;
+    private final EventPayloadFactory payloadFactory;
+    private final RealtimeProperties props;
+    private final RankingEngine rankingEngine;
+    private final TagDictionary tagDictionary;
+    private final TipQueryPort tipQuery;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final boolean clustered;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long leaseMs;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    public ChallengeRankBroadcaster(SimpMessagingTemplate messaging, EventPayloadFactory payloadFactory,
+                                    RealtimeProperties props, RankingEngine rankingEngine,
+                                    TagDictionary tagDictionary, TipQueryPort tipQuery,
+                                    StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.messaging = messaging;
+        this.payloadFactory = payloadFactory;
+        this.props = props;
+        this.rankingEngine = rankingEngine;
+        this.tagDictionary = tagDictionary;
+        this.tipQuery = tipQuery;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.clustered = !"simple".equalsIgnoreCase(props.getBroker());
+        // 리더가 몇 주기 연속 실패(중지)해야 다른 노드가 넘겨받음
+        this.leaseMs = Math.max(props.getChallengeRankIntervalMs() * 5, 5_000);
+
+        props.getChallenges().forEach(c -> boards.put(c.getId(), new Board(c)));
+        // 어떤 팁이 어떤 챌린지에 속하는지는 계산 시점에 걸러지므로 여기서는 표시만
+        rankingEngine.addChangeListener(tipNo -> boards.values().forEach(b -> b.dirty = true));
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.challenge-rank-interval-ms:1000}")
+    public void flush() {
+        for (Board board : boards.values()) {
+            if (clustered) {
+                Long lease = acquireLease(board);
+                if (lease == null || lease == 0) {
+                    follow(board); // 리더의 프레임을 따라가기만 (전송하지 않음)
+                    continue;
+                }
+                if (lease == 2) { // 새로 넘겨받음: 이전 리더의 seq에서 이어서
+                    follow(board);
+                    board.dirty = true;
+                }
+            }
+            if (!board.dirty) continue;
+            board.dirty = false;
+            try {
+                publishDelta(board);
+            } catch (MessagingException | IllegalArgumentException e) {
+                log.warn("챌린지 랭킹 전송 실패 challengeId={}, cause={}", board.challenge.getId(), e.getMessage());
+            }
+        }
+    }
+
+    // 수정/삭제된 팁은 다음 프레임에서 새로 진입한 것처럼 다시 확인 (비공개 전환 시 제거, 제목/썸네일 갱신)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipUpdated(TipUpdatedEvent e) {
+        markStale(e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipDeleted(TipDeletedEvent e) {
+        markStale(e.tipId());
+    }
+
+    private void markStale(Long tipNo) {
+        if (tipNo == null) return;
+        for (Board board : boards.values()) {
+            if (board.last.entries().stream().noneMatch(entry -> tipNo.equals(entry.tipId()))) continue;
+            board.stale.add(tipNo);
+            board.dirty = true;
+        }
+    }
+
+    /** 구독 직후 전달할 전체 스냅샷 (없는 챌린지면 null) */
+    public ChallengeRankEvent snapshot(Long challengeId) {
+        Board board = boards.get(challengeId);
+        if (board == null) return null;
+        Frame frame = board.last;
+        return payloadFactory.challengeRank(challengeId, frame.seq(), true, frame.entries(), List.of());
+    }
+
+    private void publishDelta(Board board) {
+        Frame prev = board.last;
+        Map<Long, ChallengeRankEvent.RankEntry> before = new HashMap<>();
+        prev.entries().forEach(e -> before.put(e.tipId(), e));
+
+        Set<Long> stale = new HashSet<>(board.stale);
+        board.stale.removeAll(stale);
+
+        List<ChallengeRankEvent.RankEntry> current = new ArrayList<>();
+        List<ChallengeRankEvent.RankEntry> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        int rank = 0;
+        for (RankingEngine.Entry e : compute(board.challenge)) {
+            ChallengeRankEvent.RankEntry old = before.remove(e.tipNo());
+            ChallengeRankEvent.RankEntry entry;
+            if (old == null || stale.contains(e.tipNo())) {
+                entry = entrant(e, rank + 1); // 새로 진입(또는 다시 확인): 표시용 정보 포함
+                if (entry == null) { // 비공개로 바뀐 팁 (엔진 메타데이터가 아직 반영 전)
+                    if (old != null) removed.add(e.tipNo());
+                    continue;
+                }
+                rank++;
+                changed.add(entry);
+            } else {
+                rank++;
+                entry = new ChallengeRankEvent.RankEntry(e.tipNo(), rank, e.score(), old.title(), old.thumbnailUrl());
+                if (old.rank() != rank || old.score() != e.score()) {
+                    changed.add(new ChallengeRankEvent.RankEntry(e.tipNo(), rank, e.score(), null, null));
+                }
+            }
+            current.add(entry);
+        }
+        removed.addAll(before.keySet());
+        if (changed.isEmpty() && removed.isEmpty()) return;
+
+        Frame next = new Frame(prev.seq() + 1, List.copyOf(current));
+        board.last = next;
+        if (clustered) record(board.challenge.getId(), next);
+        messaging.convertAndSend(topicOf(board.challenge.getId()),
+                payloadFactory.challengeRank(board.challenge.getId(), next.seq(), false, changed, removed));
+    }
+
+    /** 이 노드가 해당 챌린지의 전송 리스를 가졌는지 (Redis 오류 시 null → 전송하지 않음) */
+    private Long acquireLease(Board board) {
+        try {
+            return stringRedisTemplate.execute(LEASE_SCRIPT,
+                    List.of(LEADER_KEY_PREFIX + board.challenge.getId()), nodeId, String.valueOf(leaseMs));
+        } catch (DataAccessException e) {
+            log.warn("챌린지 랭킹 리스 확인 실패 challengeId={}, cause={}", board.challenge.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /** 리더가 기록한 마지막 프레임으로 보드 교체 (더 최신일 때만) */
+    private void follow(Board board) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(FRAME_KEY_PREFIX + board.challenge.getId());
+            if (json == null) return;
+            Frame frame = objectMapper.readValue(json, Frame.class);
+            if (frame.seq() > board.last.seq()) board.last = frame;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("챌린지 랭킹 프레임 조회 실패 challengeId={}, cause={}", board.challenge.getId(), e.getMessage());
+        }
+    }
+
+    // 전송 전에 기록해 다른 노드의 스냅샷이 델타보다 뒤처지지 않게 함
+    private void record(Long challengeId, Frame frame) {
+        try {
+            stringRedisTemplate.opsForValue().set(FRAME_KEY_PREFIX + challengeId,
+                    objectMapper.writeValueAsString(frame), FRAME_TTL);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("챌린지 랭킹 프레임 기록 실패 challengeId={}, cause={}", challengeId, e.getMessage());
+        }
+    }
+
+    private List<RankingEngine.Entry> compute(RealtimeProperties.Challenge c) {
+        RankingEngine.Scope scope = RankingEngine.Scope.ALL;
+        if (c.getTag() != null) {
+            Long tagNo = tagDictionary.idOf(c.getTag());
+            if (tagNo == null) return List.of(); // 아직 해당 태그의 팁이 없음
+            scope = new RankingEngine.Scope(tagNo, null);
+        }
+        return rankingEngine.top(c.getPeriod(), scope, c.getSize());
+    }
+
+    /** 표시용 정보를 채운 항목 (비공개 팁이면 null → 보드에서 제외) */
+    private ChallengeRankEvent.RankEntry entrant(RankingEngine.Entry e, int rank) {
+        try {
+            TipSummaryView view = tipQuery.findSummaryById(e.tipNo());
+            if (!view.isPublic()) return null;
+            return new ChallengeRankEvent.RankEntry(e.tipNo(), rank, e.score(), view.title(), view.thumbnailUrl());
+        } catch (IllegalArgumentException ex) {
+            return new ChallengeRankEvent.RankEntry(e.tipNo(), rank, e.score(), null, null);
+        }
+    }
+
+    private String topicOf(Long challengeId) {
+        return props.getTopics().getChallengeRank().replace("{id}", String.valueOf(challengeId));
+    }
+}
@@ -1,21 +1,27 @@
 package com.momo.momo_backend.realtime.listener;
 
 import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.dto.EventTypes;
 import com.momo.momo_backend.realtime.events.TipCreatedEvent;
 import com.momo.momo_backend.realtime.events.TipUpdatedEvent;
+import com.momo.momo_backend.realtime.outbound.BroadcastPublisher;
+import com.momo.momo_backend.realtime.outbound.SessionOutboundBuffer;
+import com.momo.momo_backend.realtime.routing.FeedShardRouter;
 import com.momo.momo_backend.realtime.support.EventPayloadFactory;
 import com.momo.momo_backend.realtime.support.TipQueryPort;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class TipRealtimeListener {
 
-    private final SimpMessagingTemplate messaging;
+    private final BroadcastPublisher broadcaster;
     private final EventPayloadFactory payloadFactory;
     private final RealtimeProperties props;
     private final TipQueryPort tipQuery;
@@ -23,21 +29,27 @@ public class TipRealtimeListener {
     /** 등록 직후: 가능하면 full, 불가능하면 minimal */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onTipCreated(TipCreatedEvent e) {
+        if (!e.isPublic()) return; // 비공개 팁은 공개 피드로 내보내지 않음
         try {
             var view = tipQuery.findSummaryById(e.tipId());
             var evt = payloadFactory.tipNewFromView(view);
-            messaging.convertAndSend(props.getTopics().getFeed(), evt);
+            // 태그/작성자 관심사 구독은 라우팅 헤더로 FeedShardRouter가 분배
+            broadcaster.publish(props.getTopics().getFeed(), evt, FeedShardRouter.routingHeaders(view));
         } catch (Exception ignored) {
             var evt = payloadFactory.tipNewMinimal(e.tipId());
-            messaging.convertAndSend(props.getTopics().getFeed(), evt);
+            broadcaster.publish(props.getTopics().getFeed(), evt);
         }
     }
 
     /** 요약/썸네일 등 갱신 시: 항상 full로 업데이트 이벤트 */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onTipUpdated(TipUpdatedEvent e) {
+        if (!e.isPublic()) return;
         var view = tipQuery.findSummaryById(e.tipId());
         var evt = payloadFactory.tipUpdateFromView(view);
-        messaging.convertAndSend(props.getTopics().getFeed(), evt);
+        // 같은 팁의 수정이 세션 버퍼에 밀려 있으면 최신 것만 전달
+        Map<String, String> headers = new HashMap<>(FeedShardRouter.routingHeaders(view));
+        headers.put(SessionOutboundBuffer.COALESCE_KEY_HEADER, EventTypes.TIP_UPDATE + ":" + e.tipId());
+        broadcaster.publish(props.getTopics().getFeed(), evt, headers);
     }
 }
@@ -0,0 +1,163 @@
+package com.momo.momo_backend.realtime.outbound;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 브로드캐스트 MESSAGE 프레임 인코더 (StompSubProtocolHandler에 설치).
+ * SimpleBroker는 구독자마다 같은 payload 배열로 메시지를 만들고, 프레임에서 구독자마다 다른 것은
+ * subscription / message-id 헤더뿐이다. 그래서 나머지(공용 헤더 + content-length + 본문 + NULL)를
+ * payload 배열 기준으로 한 번만 인코딩해 두고, 구독자별로는 두 헤더만 써서 정확한 크기의 배열 하나에 이어 붙인다.
+ * 같은 payload가 여러 destination(/topic/feed와 피드 관심사 구독)으로 나가므로 payload마다 공용 헤더 조합별 꼬리를 몇 개 둔다.
+ * STOMP 규격상 subscription 헤더가 구독자마다 달라 프레임 전체를 공유할 수는 없다.
+ * 대상 prefix가 아니거나 형식이 예상과 다르면 기본 StompEncoder로 인코딩한다.
+ */
+public class BroadcastFrameEncoder extends StompEncoder {
+
+    private static final byte[] MESSAGE_LINE = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUBSCRIPTION = "subscription:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_ID = "message-id:".getBytes(StandardCharsets.UTF_8);
+    private static final Set<String> PER_FRAME_HEADERS = Set.of("subscription", "message-id", "content-length");
+    private static final int MAX_TAILS_PER_PAYLOAD = 16;
+
+    /** 공용 헤더 조합 하나의 구독자 공통 꼬리 */
+    private record SharedTail(Map<String, List<String>> headers, byte[] bytes) {}
+
+    private final String destinationPrefix;
+    private final Cache<byte[], List<SharedTail>> tails; // payload 배열(동일성 비교) → 꼬리들
+    private final Counter hits;
+    private final Counter misses;
+
+    public BroadcastFrameEncoder(String destinationPrefix, MeterRegistry meterRegistry) {
+        this.destinationPrefix = destinationPrefix;
+        // weakKeys: 키를 == 로 비교하고, 브로드캐스트가 끝나 payload가 수거되면 함께 빠짐
+        this.tails = Caffeine.newBuilder().weakKeys().maximumSize(256).build();
+        this.hits = meterRegistry.counter("realtime.frame.shared", "result", "hit");
+        this.misses = meterRegistry.counter("realtime.frame.shared", "result", "miss");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Map<String, Object> headers, byte[] payload) {
+        if (payload.length == 0 || !(headers instanceof MessageHeaders messageHeaders)) return super.encode(headers, payload);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(messageHeaders, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.MESSAGE) return super.encode(headers, payload);
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(destinationPrefix)) return super.encode(headers, payload);
+
+        Map<String, List<String>> nativeHeaders =
+                (Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        String subscription = accessor.getSubscriptionId();
+        String messageId = accessor.getMessageId();
+        if (nativeHeaders == null || subscription == null || messageId == null) return super.encode(headers, payload);
+
+        List<SharedTail> variants = tails.get(payload, k -> new CopyOnWriteArrayList<>());
+        SharedTail tail = null;
+        for (SharedTail candidate : variants) {
+            if (sameSharedHeaders(candidate.headers(), nativeHeaders)) {
+                tail = candidate;
+                break;
+            }
+        }
+        if (tail == null) {
+            tail = new SharedTail(sharedHeaders(nativeHeaders), encodeTail(nativeHeaders, payload));
+            if (variants.size() < MAX_TAILS_PER_PAYLOAD) variants.add(tail);
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        byte[] sub = escape(subscription);
+        byte[] id = escape(messageId);
+        byte[] frame = new byte[MESSAGE_LINE.length + SUBSCRIPTION.length + sub.length + 1
+                + MESSAGE_ID.length + id.length + 1 + tail.bytes().length];
+        int pos = put(frame, 0, MESSAGE_LINE);
+        pos = put(frame, pos, SUBSCRIPTION);
+        pos = put(frame, pos, sub);
+        frame[pos++] = '\n';
+        pos = put(frame, pos, MESSAGE_ID);
+        pos = put(frame, pos, id);
+        frame[pos++] = '\n';
+        put(frame, pos, tail.bytes());
+        return frame;
+    }
+
+    /** 공용 헤더 + content-length + 빈 줄 + 본문 + NULL */
+    private static byte[] encodeTail(Map<String, List<String>> nativeHeaders, byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 128);
+        nativeHeaders.forEach((key, values) -> {
+            if (PER_FRAME_HEADERS.contains(key)) return;
+            byte[] encodedKey = escape(key);
+            for (String value : values) {
+                out.writeBytes(encodedKey);
+                out.write(':');
+                out.writeBytes(escape(value));
+                out.write('\n');
+            }
+        });
+        out.writeBytes(("content-length:" + payload.length + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(payload);
+        out.write(0);
+        return out.toByteArray();
+    }
+
+    private static Map<String, List<String>> sharedHeaders(Map<String, List<String>> nativeHeaders) {
+        Map<String, List<String>> shared = new HashMap<>();
+        nativeHeaders.forEach((key, values) -> {
+            if (!PER_FRAME_HEADERS.contains(key)) shared.put(key, List.copyOf(values));
+        });
+        return shared;
+    }
+
+    private static boolean sameSharedHeaders(Map<String, List<String>> shared, Map<String, List<String>> nativeHeaders) {
+        int matched = 0;
+        for (Map.Entry<String, List<String>> e : nativeHeaders.entrySet()) {
+            if (PER_FRAME_HEADERS.contains(e.getKey())) continue;
+            if (!e.getValue().equals(shared.get(e.getKey()))) return false;
+            matched++;
+        }
+        return matched == shared.size();
+    }
+
+    /** MESSAGE 프레임 헤더 이스케이프 (StompEncoder와 동일: \\ \r \n :) */
+    private static byte[] escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case ':' -> "\\c";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                default -> null;
+            };
+            if (replacement != null && sb == null) sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            if (sb != null) {
+                if (replacement != null) sb.append(replacement);
+                else sb.append(c);
+            }
+        }
+        return (sb != null ? sb.toString() : value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int put(byte[] frame, int pos, byte[] part) {
+        System.arraycopy(part, 0, frame, pos, part.length);
+        return pos + part.length;
+    }
+}
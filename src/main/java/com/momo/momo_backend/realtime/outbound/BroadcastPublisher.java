@@ -0,0 +1,49 @@
+package com.momo.momo_backend.realtime.outbound;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+
+/**
+ * 공용 토픽 발행: 이벤트를 JSON으로 한 번만 직렬화해 byte[] 그대로 브로커에 보낸다.
+ * SimpleBroker와 FeedShardRouter는 구독자별 메시지에 이 배열을 공유하고, STOMP 인코딩은 BroadcastFrameEncoder가 재사용한다.
+ * 배열은 발행 후 수정하지 않는다 (구독자 수만큼 공유됨).
+ */
+@Component
+@RequiredArgsConstructor
+public class BroadcastPublisher {
+
+    private final SimpMessagingTemplate messaging;
+    private final ObjectMapper objectMapper;
+
+    public void publish(String destination, Object payload) {
+        publish(destination, payload, Map.of());
+    }
+
+    /**
+     * headers: 프레임에 쓰이지 않는 서버 내부 헤더
+     * (SessionOutboundBuffer.COALESCE_KEY_HEADER, FeedShardRouter 라우팅 헤더 등)
+     */
+    public void publish(String destination, Object payload, Map<String, String> headers) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("브로드캐스트 페이로드 직렬화 실패: " + e.getOriginalMessage(), e);
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.forEach(accessor::setHeader);
+        accessor.setLeaveMutable(true); // 템플릿이 destination을 같은 헤더에 채움
+        messaging.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,268 @@
+package com.momo.momo_backend.realtime.outbound;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션별 송신 버퍼 (clientOutboundChannel 인터셉터).
+ * - 브로커가 만든 MESSAGE 프레임을 세션 큐에 넣고 바로 반환 → 브로커/브로드캐스트 스레드는 소켓 쓰기를 기다리지 않음
+ * - 송신 스레드(realtime.outbound.workers)가 세션 큐를 순서대로 비움. 세션당 동시에 하나의 스레드만 사용
+ * - 큐 한도(메시지 수/바이트) 초과 시 overflowPolicy에 따라 오래된 메시지를 버리거나 세션을 종료
+ * - 소켓 쓰기 한 번이 sendTimeLimitMs를 넘기면 감시 스레드가 세션을 종료 (송신 스레드를 느린 세션에 묶어두지 않도록)
+ * - 같은 구독에서 coalesce 키(예: tip:update:{tipId})가 같은 메시지는 큐 안에서 최신 것으로 교체 (위치는 유지)
+ * CONNECTED/RECEIPT/ERROR 등 MESSAGE 외 프레임은 기존 경로 그대로 전달한다.
+ */
+@Slf4j
+@Component
+public class SessionOutboundBuffer implements ChannelInterceptor {
+
+    public static final String COALESCE_KEY_HEADER = "momoCoalesceKey";
+
+    private static final int DRAIN_BATCH = 64; // 한 세션이 송신 스레드를 오래 점유하지 않도록
+
+    private final RealtimeProperties.Outbound conf;
+    private final BeanFactory beanFactory;
+    private volatile MessageHandler outboundHandler;
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService watchdog;
+
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Counter terminated;
+    private final Counter sendTimeouts;
+
+    public SessionOutboundBuffer(RealtimeProperties props, BeanFactory beanFactory, MeterRegistry meterRegistry) {
+        this.conf = props.getOutbound();
+        this.beanFactory = beanFactory;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                conf.getWorkers(), conf.getWorkers(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), // 세션당 최대 한 건만 대기하므로 세션 수로 제한됨
+                r -> {
+                    Thread t = new Thread(r, "ws-outbound-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        this.dropped = meterRegistry.counter("realtime.outbound.dropped");
+        this.coalesced = meterRegistry.counter("realtime.outbound.coalesced");
+        this.terminated = meterRegistry.counter("realtime.outbound.terminated");
+        this.sendTimeouts = meterRegistry.counter("realtime.outbound.send_timeouts");
+        Gauge.builder("realtime.outbound.queued", queues, q -> q.values().stream().mapToInt(SessionQueue::size).sum())
+                .description("세션 송신 버퍼에 대기 중인 메시지 수 (전체)")
+                .register(meterRegistry);
+        Gauge.builder("realtime.outbound.max_depth", queues, q -> q.values().stream().mapToInt(SessionQueue::size).max().orElse(0))
+                .description("가장 많이 밀린 세션의 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("realtime.outbound.pending_drains", executor.getQueue(), Collection::size)
+                .register(meterRegistry);
+
+        // ConcurrentWebSocketSessionDecorator의 sendTimeLimit은 다른 스레드가 동시에 보낼 때만 검사되는데,
+        // 세션당 송신 스레드가 하나뿐이라 그 상황이 생기지 않으므로 여기서 직접 감시
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ws-outbound-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        if (conf.getSendTimeLimitMs() > 0) {
+            long period = Math.max(50, Math.min(1_000, conf.getSendTimeLimitMs() / 4));
+            watchdog.scheduleWithFixedDelay(this::closeStalledSessions, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 세션 종료 정책에 쓸 WebSocketSession 보관 (WsConfig에서 전송 계층 데코레이터로 등록) */
+    public WebSocketHandlerDecoratorFactory sessionTracker() {
+        return handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                queues.put(session.getId(), new SessionQueue(session.getId()));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                queues.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) return message;
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) return message;
+
+        // 큐는 연결 수립 시에만 생성 (종료 후 도착한 메시지로 다시 만들지 않음)
+        SessionQueue queue = queues.get(sessionId);
+        if (queue == null) return sessions.containsKey(sessionId) ? null : message; // 종료 처리 중인 세션이면 버림
+        switch (queue.offer(message)) {
+            case SCHEDULE -> executor.execute(() -> drain(queue));
+            case OVERFLOW -> terminate(sessionId, "송신 버퍼 초과");
+            case QUEUED -> { }
+        }
+        return null; // 송신 스레드가 전달
+    }
+
+    private void drain(SessionQueue queue) {
+        MessageHandler handler = handler();
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            if (queues.get(queue.sessionId) != queue) return; // 종료된 세션
+            Message<?> next = queue.poll();
+            if (next == null) return; // poll이 scheduled 해제
+            queue.sendingSince = System.currentTimeMillis();
+            try {
+                handler.handleMessage(next); // 블로킹 소켓 쓰기 (시간 초과는 closeStalledSessions가 처리)
+            } catch (Exception e) {
+                log.debug("WS 송신 실패 sessionId={}, cause={}", queue.sessionId, e.getMessage());
+            } finally {
+                queue.sendingSince = 0;
+            }
+        }
+        executor.execute(() -> drain(queue)); // 남은 메시지는 다른 세션 뒤로
+    }
+
+    private void closeStalledSessions() {
+        long threshold = System.currentTimeMillis() - conf.getSendTimeLimitMs();
+        for (SessionQueue queue : queues.values()) {
+            long since = queue.sendingSince;
+            if (since == 0 || since >= threshold) continue;
+            if (!queues.remove(queue.sessionId, queue)) continue; // 이미 종료 처리됨
+            sendTimeouts.increment();
+            String reason = "송신 시간 초과 " + (System.currentTimeMillis() - since) + "ms";
+            // close가 막힌 쓰기와 경합할 수 있으므로 감시 스레드 밖에서
+            CompletableFuture.runAsync(() -> terminate(queue.sessionId, reason));
+        }
+    }
+
+    private void terminate(String sessionId, String reason) {
+        queues.remove(sessionId);
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) return;
+        terminated.increment();
+        log.info("WS 세션 종료 sessionId={}, reason={}", sessionId, reason);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("WS 세션 종료 실패 sessionId={}, cause={}", sessionId, e.getMessage());
+        }
+    }
+
+    private MessageHandler handler() {
+        MessageHandler h = outboundHandler;
+        if (h == null) {
+            h = beanFactory.getBean("subProtocolWebSocketHandler", MessageHandler.class);
+            outboundHandler = h;
+        }
+        return h;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private enum Offer { QUEUED, SCHEDULE, OVERFLOW }
+
+    /** 세션 하나의 대기 메시지 (coalesce 키 또는 일련번호 → 메시지, 삽입 순서 유지) */
+    private final class SessionQueue {
+        final String sessionId;
+        private final LinkedHashMap<Object, Message<?>> pending = new LinkedHashMap<>();
+        private long seq;
+        private int bytes;
+        private boolean scheduled;
+        volatile long sendingSince; // 진행 중인 소켓 쓰기 시작 시각 (0 = 없음)
+
+        SessionQueue(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        synchronized Offer offer(Message<?> message) {
+            Object coalesceKey = message.getHeaders().get(COALESCE_KEY_HEADER);
+            // 구독별로 교체 (한 세션이 /topic/feed와 샤드를 함께 구독하면 둘 다 받아야 함)
+            Object key = coalesceKey != null
+                    ? SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()) + "|" + coalesceKey
+                    : Long.valueOf(seq++);
+            Message<?> replaced = pending.put(key, message);
+            if (replaced != null) {
+                bytes -= sizeOf(replaced);
+                coalesced.increment();
+            }
+            bytes += sizeOf(message);
+
+            while (pending.size() > conf.getMaxQueuedMessages() || bytes > conf.getMaxQueuedBytes()) {
+                if (conf.getOverflowPolicy() == RealtimeProperties.Outbound.OverflowPolicy.TERMINATE) {
+                    pending.clear();
+                    bytes = 0;
+                    return Offer.OVERFLOW;
+                }
+                Iterator<Message<?>> oldest = pending.values().iterator();
+                bytes -= sizeOf(oldest.next());
+                oldest.remove();
+                dropped.increment();
+            }
+            if (scheduled || pending.isEmpty()) return Offer.QUEUED;
+            scheduled = true;
+            return Offer.SCHEDULE;
+        }
+
+        synchronized Message<?> poll() {
+            Iterator<Message<?>> it = pending.values().iterator();
+            if (!it.hasNext()) {
+                scheduled = false;
+                return null;
+            }
+            Message<?> next = it.next();
+            it.remove();
+            bytes -= sizeOf(next);
+            return next;
+        }
+
+        synchronized int size() {
+            return pending.size();
+        }
+    }
+
+    private static int sizeOf(Message<?> message) {
+        return message.getPayload() instanceof byte[] b ? b.length : 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.momo.momo_backend.realtime.routing;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.support.TipSummaryView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * /topic/feed 이벤트를 태그/작성자 관심사 구독으로 분배 (brokerChannel 인터셉터).
+ * 발행자는 /topic/feed 한 곳에만 라우팅 헤더(태그, 작성자)를 붙여 보내고, 각 노드가 자기 역색인으로
+ * 맞는 구독에만 같은 payload를 clientOutboundChannel로 직접 전달한다.
+ * → 직렬화 한 번, redis 브로커 모드에서도 Redis 발행 한 번 (샤드 destination마다 발행하지 않음)
+ * relay 모드는 노드 로컬 색인으로는 다른 노드 구독을 알 수 없으므로 샤드 destination으로 다시 발행해 외부 브로커에 맡긴다.
+ */
+@Component
+public class FeedShardRouter implements ChannelInterceptor {
+
+    public static final String TAGS_HEADER = "momoFeedTags";     // 태그 이름을 TAG_SEPARATOR로 연결
+    public static final String AUTHOR_HEADER = "momoFeedAuthor"; // 작성자 userNo
+    private static final String TAG_SEPARATOR = "\u001F";
+
+    private final FeedSubscriptionIndex index;
+    private final RealtimeProperties props;
+    private final MessageChannel clientOutboundChannel;
+    private final MessageChannel brokerChannel;
+    private final boolean relay;
+    private final Counter routed;
+
+    public FeedShardRouter(FeedSubscriptionIndex index, RealtimeProperties props,
+                           @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                           MeterRegistry meterRegistry) {
+        this.index = index;
+        this.props = props;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.brokerChannel = brokerChannel;
+        this.relay = "relay".equalsIgnoreCase(props.getBroker());
+        this.routed = meterRegistry.counter("realtime.feed.routed");
+    }
+
+    /** 팁 이벤트의 라우팅 헤더 (BroadcastPublisher에 전달) */
+    public static Map<String, String> routingHeaders(TipSummaryView view) {
+        Map<String, String> headers = new HashMap<>();
+        // 태그는 사용자 입력이므로 프레임/헤더 구분자로 쓰이는 제어 문자가 있으면 샤드에서 제외
+        List<String> tags = view.tags() == null ? List.of() : view.tags().stream()
+                .filter(StringUtils::hasText)
+                .filter(t -> t.chars().noneMatch(Character::isISOControl))
+                .toList();
+        if (!tags.isEmpty()) headers.put(TAGS_HEADER, String.join(TAG_SEPARATOR, tags));
+        if (view.authorNo() != null) headers.put(AUTHOR_HEADER, String.valueOf(view.authorNo()));
+        return headers;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || !props.getTopics().getFeed().equals(SimpMessageHeaderAccessor.getDestination(headers))) {
+            return message;
+        }
+        Object tagsHeader = headers.get(TAGS_HEADER);
+        List<String> tags = tagsHeader instanceof String s && !s.isEmpty() ? List.of(s.split(TAG_SEPARATOR)) : List.of();
+        Long authorNo = headers.get(AUTHOR_HEADER) instanceof String s ? parseUserNo(s) : null;
+        if (tags.isEmpty() && authorNo == null) return message;
+
+        if (relay) {
+            forwardToShards(message, tags, authorNo);
+        } else {
+            deliver(message, index.match(tags, authorNo));
+        }
+        return message; // /topic/feed 전체 구독자에게는 원래대로
+    }
+
+    private void deliver(Message<?> message, Collection<FeedSubscriptionIndex.Target> targets) {
+        for (FeedSubscriptionIndex.Target target : targets) {
+            // SimpleBroker가 구독자별로 만드는 메시지와 같은 형태 (payload 배열은 공유)
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(target.sessionId());
+            accessor.setSubscriptionId(target.subscriptionId());
+            accessor.setDestination(target.destination());
+            accessor.copyHeadersIfAbsent(message.getHeaders());
+            accessor.setLeaveMutable(true);
+            clientOutboundChannel.send(MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+        }
+        routed.increment(targets.size());
+    }
+
+    private void forwardToShards(Message<?> message, List<String> tags, Long authorNo) {
+        RealtimeProperties.Topics topics = props.getTopics();
+        List<String> destinations = new ArrayList<>(tags.size() + 1);
+        tags.forEach(tag -> destinations.add(topics.getFeedTagPrefix() + tag));
+        if (authorNo != null) destinations.add(topics.getFeedAuthorPrefix() + authorNo);
+        for (String destination : destinations) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination);
+            MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+            if (contentType != null) accessor.setContentType(contentType);
+            brokerChannel.send(MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders()));
+        }
+        routed.increment(destinations.size());
+    }
+
+    private static Long parseUserNo(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null; // 작성자 샤드만 건너뜀
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.momo.momo_backend.realtime.routing;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 피드 관심사 구독의 역색인 (노드 로컬): 태그 → 구독, 작성자 userNo → 구독.
+ * - /topic/feed/tag/{tag}, /topic/feed/author/{userNo}: destination 자체가 관심사 하나
+ * - /topic/feed/interests: SUBSCRIBE 헤더 tags(쉼표 구분 태그 이름), authors(쉼표 구분 userNo)로 여러 관심사
+ * 이벤트마다 태그/작성자 키로 바로 구독을 찾으므로 비용은 관심사가 맞는 구독 수에 비례한다.
+ * 구독 변경은 드물어서 갱신만 직렬화하고 조회는 잠금 없이 한다.
+ */
+@Slf4j
+@Component
+public class FeedSubscriptionIndex {
+
+    /** 전달 대상 구독 (STOMP 세션 + 구독 id, 프레임 destination) */
+    public record Target(String sessionId, String subscriptionId, String destination) {}
+
+    private record Interest(Target target, Set<String> tags, Set<Long> authors) {}
+
+    private final RealtimeProperties props;
+    private final boolean enabled; // relay 모드는 외부 브로커가 샤드 destination을 라우팅
+
+    private final Map<String, Map<String, Interest>> bySession = new ConcurrentHashMap<>();
+    private final Map<String, Set<Target>> byTag = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Target>> byAuthor = new ConcurrentHashMap<>();
+
+    public FeedSubscriptionIndex(RealtimeProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.enabled = !"relay".equalsIgnoreCase(props.getBroker());
+        Gauge.builder("realtime.feed.interest_subscriptions", bySession, s -> s.values().stream().mapToInt(Map::size).sum())
+                .description("이 노드의 피드 관심사 구독 수")
+                .register(meterRegistry);
+    }
+
+    /** 태그 중 하나 또는 작성자가 맞는 구독 (여러 관심사가 맞아도 구독당 한 번) */
+    public Collection<Target> match(Collection<String> tags, @Nullable Long authorNo) {
+        Set<Target> targets = new LinkedHashSet<>();
+        for (String tag : tags) {
+            Set<Target> found = byTag.get(tag);
+            if (found != null) targets.addAll(found);
+        }
+        if (authorNo != null) {
+            Set<Target> found = byAuthor.get(authorNo);
+            if (found != null) targets.addAll(found);
+        }
+        return targets;
+    }
+
+    @EventListener
+    public synchronized void onSubscribe(SessionSubscribeEvent e) {
+        if (!enabled) return;
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(e.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) return;
+
+        Interest interest = parse(new Target(sessionId, subscriptionId, destination), accessor);
+        if (interest == null) return; // 피드 관심사 구독이 아님
+        Interest replaced = bySession.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>()).put(subscriptionId, interest);
+        if (replaced != null) unindex(replaced);
+        index(interest);
+    }
+
+    @EventListener
+    public synchronized void onUnsubscribe(SessionUnsubscribeEvent e) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(e.getMessage());
+        Map<String, Interest> subs = accessor.getSessionId() != null ? bySession.get(accessor.getSessionId()) : null;
+        if (subs == null || accessor.getSubscriptionId() == null) return;
+        Interest removed = subs.remove(accessor.getSubscriptionId());
+        if (removed != null) unindex(removed);
+        if (subs.isEmpty()) bySession.remove(accessor.getSessionId());
+    }
+
+    @EventListener
+    public synchronized void onDisconnect(SessionDisconnectEvent e) {
+        Map<String, Interest> subs = bySession.remove(e.getSessionId());
+        if (subs != null) subs.values().forEach(this::unindex);
+    }
+
+    private Interest parse(Target target, StompHeaderAccessor accessor) {
+        RealtimeProperties.Topics topics = props.getTopics();
+        String destination = target.destination();
+        if (destination.startsWith(topics.getFeedTagPrefix())) {
+            String tag = destination.substring(topics.getFeedTagPrefix().length());
+            return tag.isEmpty() ? null : new Interest(target, Set.of(tag), Set.of());
+        }
+        if (destination.startsWith(topics.getFeedAuthorPrefix())) {
+            Long authorNo = parseUserNo(destination.substring(topics.getFeedAuthorPrefix().length()));
+            return authorNo == null ? null : new Interest(target, Set.of(), Set.of(authorNo));
+        }
+        if (destination.equals(topics.getFeedInterests())) {
+            Set<String> tags = new HashSet<>(split(accessor.getFirstNativeHeader("tags")));
+            Set<Long> authors = new HashSet<>();
+            for (String value : split(accessor.getFirstNativeHeader("authors"))) {
+                Long authorNo = parseUserNo(value);
+                if (authorNo != null) authors.add(authorNo);
+            }
+            return new Interest(target, tags, authors); // 비어 있으면 아무것도 받지 않음
+        }
+        return null;
+    }
+
+    private List<String> split(@Nullable String header) {
+        if (!StringUtils.hasText(header)) return List.of();
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .distinct()
+                .limit(props.getTopics().getFeedMaxInterests())
+                .toList();
+    }
+
+    private static Long parseUserNo(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            log.debug("피드 작성자 구독 형식 오류: {}", value);
+            return null;
+        }
+    }
+
+    private void index(Interest interest) {
+        interest.tags().forEach(tag -> byTag.computeIfAbsent(tag, k -> ConcurrentHashMap.newKeySet()).add(interest.target()));
+        interest.authors().forEach(no -> byAuthor.computeIfAbsent(no, k -> ConcurrentHashMap.newKeySet()).add(interest.target()));
+    }
+
+    private void unindex(Interest interest) {
+        interest.tags().forEach(tag -> removeFrom(byTag, tag, interest.target()));
+        interest.authors().forEach(no -> removeFrom(byAuthor, no, interest.target()));
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Target>> index, K key, Target target) {
+        index.computeIfPresent(key, (k, targets) -> {
+            targets.remove(target);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
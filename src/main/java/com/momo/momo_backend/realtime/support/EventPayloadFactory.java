@@ -1,13 +1,17 @@
 package com.momo.momo_backend.realtime.support;
 
+import com.momo.momo_backend.dto.TipDto;
 import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.dto.ChallengeRankEvent;
 import com.momo.momo_backend.realtime.dto.EventTypes;
 import com.momo.momo_backend.realtime.dto.NotificationEvent;
 import com.momo.momo_backend.realtime.dto.TipEvent;
+import com.momo.momo_backend.realtime.dto.TipGenerationEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -70,4 +74,41 @@ public class EventPayloadFactory {
         String autoUrl = (tipId != null) ? ("/tips/" + tipId) : null;
         return notificationNew(tipId, message, createdAt, autoUrl);
     }
+
+    /** AI 생성(미리보기) 완료 페이로드 */
+    public TipGenerationEvent tipGenerated(String taskId, TipDto.CreateResponse result) {
+        return TipGenerationEvent.builder()
+                .type(EventTypes.TIP_GENERATED)
+                .taskId(taskId)
+                .result(result)
+                .createdAt(Instant.now())
+                .v(props.getSchemaVersion())
+                .build();
+    }
+
+    /** AI 생성(미리보기) 실패 페이로드 */
+    public TipGenerationEvent tipGenerationFailed(String taskId, String message) {
+        return TipGenerationEvent.builder()
+                .type(EventTypes.TIP_GENERATION_FAILED)
+                .taskId(taskId)
+                .message(message)
+                .createdAt(Instant.now())
+                .v(props.getSchemaVersion())
+                .build();
+    }
+
+    /** 챌린지 랭킹 델타/스냅샷 페이로드 */
+    public ChallengeRankEvent challengeRank(Long challengeId, long seq, boolean full,
+                                            List<ChallengeRankEvent.RankEntry> changed, List<Long> removed) {
+        return ChallengeRankEvent.builder()
+                .type(EventTypes.CHALLENGE_RANK)
+                .challengeId(challengeId)
+                .seq(seq)
+                .full(full)
+                .changed(changed)
+                .removed(removed.isEmpty() ? null : removed)
+                .createdAt(Instant.now())
+                .v(props.getSchemaVersion())
+                .build();
+    }
 }
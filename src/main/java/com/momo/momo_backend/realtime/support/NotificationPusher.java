@@ -0,0 +1,44 @@
+package com.momo.momo_backend.realtime.support;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.cluster.UserSessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/** 개인 알림 큐 전송 (아웃박스 릴레이에서 호출). 접속 중이 아닌 사용자는 페이로드를 만들기 전에 건너뜀 */
+@Component
+public class NotificationPusher {
+
+    private final SimpMessagingTemplate messaging;
+    private final EventPayloadFactory payloadFactory;
+    private final RealtimeProperties props;
+    private final UserSessionRegistry sessions;
+    private final Counter skippedOffline;
+
+    public NotificationPusher(SimpMessagingTemplate messaging, EventPayloadFactory payloadFactory,
+                              RealtimeProperties props, UserSessionRegistry sessions, MeterRegistry meterRegistry) {
+        this.messaging = messaging;
+        this.payloadFactory = payloadFactory;
+        this.props = props;
+        this.sessions = sessions;
+        this.skippedOffline = meterRegistry.counter("realtime.push.skipped", "queue", "notifications", "reason", "offline");
+    }
+
+    public void push(Long targetUserId, Long tipId, String message, Instant createdAt) {
+        if (!sessions.isOnline(String.valueOf(targetUserId))) {
+            skippedOffline.increment(); // 알림은 DB에 있으므로 다음 접속 시 조회 API로 확인
+            return;
+        }
+        var evt = payloadFactory.notificationNew(tipId, message, createdAt);
+        // convertAndSendToUser의 첫번째 인자는 Principal.getName()과 동일해야 함 (userId 문자열)
+        messaging.convertAndSendToUser(
+                String.valueOf(targetUserId),
+                props.getTopics().getUserNotificationQueue(),
+                evt
+        );
+    }
+}
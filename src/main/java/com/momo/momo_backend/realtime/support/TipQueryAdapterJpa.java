@@ -1,62 +1,54 @@
 package com.momo.momo_backend.realtime.support;
 
-import com.momo.momo_backend.entity.Tag;
-import com.momo.momo_backend.entity.Tip;
-import com.momo.momo_backend.entity.TipTag;
-import com.momo.momo_backend.entity.User;
-import com.momo.momo_backend.repository.TipRepository;
+import com.momo.momo_backend.cache.TipSummaryCache;
+import com.momo.momo_backend.dto.TipRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.Instant;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class TipQueryAdapterJpa implements TipQueryPort {
 
-    private final TipRepository tipRepository;
+    private final TipSummaryCache tipSummaryCache;
 
     @Override
-    @Transactional(readOnly = true)
     public TipSummaryView findSummaryById(Long tipId) {
-        Tip tip = tipRepository.findById(tipId)
+        // 요약 캐시 (없으면 팁 + 작성자 한 번, 태그 한 번 조회 후 적재)
+        TipSummaryCache.Summary summary = tipSummaryCache.get(tipId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팁입니다. id=" + tipId));
+        TipRow row = summary.row();
 
-        String author = getAuthorDisplayName(tip.getUser());
+        String author = getAuthorDisplayName(row);
 
-        List<String> tags = Optional.ofNullable(tip.getTipTags()).orElse(List.of()).stream()
-                .map(TipTag::getTag)
-                .map(Tag::getName)
-                .toList();
-
-        Instant created = (tip.getCreatedAt() != null)
-                ? tip.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+        Instant created = (row.createdAt() != null)
+                ? row.createdAt().atZone(ZoneId.systemDefault()).toInstant()
                 : Instant.now();
 
         return new TipSummaryView(
-                tip.getNo(),
-                tip.getTitle(),
+                row.no(),
+                row.title(),
                 author,
-                tags,
+                row.userNo(),
+                summary.tags(),
                 created,
-                tip.getThumbnailUrl()
+                row.thumbnailUrl(),
+                Boolean.TRUE.equals(row.isPublic())
         );
     }
 
-    private String getAuthorDisplayName(User user) {
-        if (user == null) {
+    private String getAuthorDisplayName(TipRow row) {
+        if (row.userNo() == null) {
             return null;
         }
 
-        if (StringUtils.hasText(user.getNickname())) {
-            return user.getNickname();
+        if (StringUtils.hasText(row.nickname())) {
+            return row.nickname();
         } else {
-            return String.valueOf(user.getNo());
+            return String.valueOf(row.userNo());
         }
     }
 }
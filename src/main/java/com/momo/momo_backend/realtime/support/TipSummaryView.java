@@ -7,7 +7,9 @@ public record TipSummaryView(
         Long id,
         String title,
         String author,
+        Long authorNo,        // 작성자 피드 샤드(/topic/feed/author/{userNo}) 라우팅용
         List<String> tags,
         Instant createdAt,
-        String thumbnailUrl
+        String thumbnailUrl,
+        boolean isPublic
 ) {}
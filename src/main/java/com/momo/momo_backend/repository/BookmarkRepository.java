@@ -1,10 +1,9 @@
 package com.momo.momo_backend.repository;
 
 import com.momo.momo_backend.entity.Bookmark;
-import com.momo.momo_backend.entity.Tip;
-import com.momo.momo_backend.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,17 +13,23 @@ import java.util.Optional;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
-    // 즐겨찾기 중복 방지용 메서드
-    boolean existsByUserAndTip(User user, Tip tip);
+    // 중복이면 아무것도 하지 않는 단일 INSERT (uk_bookmark_user_tip, UniqueKeyInitializer가 보장). 실제로 추가된 행 수(0 또는 1) 반환
+    @Modifying
+    @Query(value = "INSERT INTO bookmark (user_no, tip_no, created_at) VALUES (:userNo, :tipNo, :createdAt) " +
+            "ON CONFLICT (user_no, tip_no) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userNo") Long userNo,
+                       @Param("tipNo") Long tipNo,
+                       @Param("createdAt") LocalDateTime createdAt);
 
     // 즐겨찾기 취소 시 소유권 확인을 위해 userNo와 bookmarkNo로 찾는 메서드 추가
     Optional<Bookmark> findByNoAndUser_No(Long bookmarkNo, Long userNo);
 
     // 주간 랭킹 조회를 위한 쿼리 추가
-    @Query("SELECT b.tip, COUNT(b.tip) as bookmarkCount " +
+    // (tip no, 북마크 수) — 팁 정보는 TipReadModel로 한 번에 채움
+    @Query("SELECT b.tip.no, COUNT(b) as bookmarkCount " +
             "FROM Bookmark b " +
             "WHERE b.createdAt >= :startDate " +
-            "GROUP BY b.tip " +
+            "GROUP BY b.tip.no " +
             "ORDER BY bookmarkCount DESC")
     List<Object[]> findWeeklyRanking(@Param("startDate") LocalDateTime startDate, Pageable pageable);
 
@@ -2,10 +2,12 @@ package com.momo.momo_backend.repository;
 
 import com.momo.momo_backend.entity.Follow;
 import com.momo.momo_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,17 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.follower FROM Follow f WHERE f.following.no = :userNo")
     List<User> findFollowersByUserNo(@Param("userNo") Long userNo);        // 나를 팔로우하는 ‘User’들
 
+    // 팔로워 no만 키셋 페이지로 조회 (팬아웃용, afterFollowerNo 초과부터 오름차순)
+    @Query("SELECT f.follower.no FROM Follow f WHERE f.following.no = :userNo AND f.follower.no > :afterFollowerNo ORDER BY f.follower.no")
+    List<Long> findFollowerNosAfter(@Param("userNo") Long userNo,
+                                    @Param("afterFollowerNo") Long afterFollowerNo,
+                                    Pageable pageable);
+
+    // 주어진 사용자들 중 내가 팔로우하는 사용자 no (홈 피드 셀럽 병합용)
+    @Query("SELECT f.following.no FROM Follow f WHERE f.follower.no = :followerNo AND f.following.no IN :userNos")
+    List<Long> findFollowingNosIn(@Param("followerNo") Long followerNo,
+                                  @Param("userNos") Collection<Long> userNos);
+
     // 특정 사용자의 팔로잉 수를 계산하는 메서드 (내가 몇 명을 팔로우하는지)
     long countByFollower_No(Long userNo);
 
@@ -4,6 +4,8 @@ import com.momo.momo_backend.entity.Group;
 import com.momo.momo_backend.entity.GroupMember;
 import com.momo.momo_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,4 +28,16 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     // 그룹 번호와 사용자 번호로 GroupMember 존재 여부 확인
     boolean existsByGroup_NoAndUser_No(Long groupNo, Long userNo);
+
+    // 팁이 담긴 그룹 보관함들의 멤버 no (중복 제거, 작성자 제외) - 알림 수신자 조회용 단일 쿼리
+    @Query("""
+        SELECT DISTINCT gm.user.no
+        FROM StorageTip st
+          JOIN st.storage s
+          JOIN GroupMember gm ON gm.group = s.group
+        WHERE st.tip.no = :tipNo
+          AND gm.user.no <> :excludeUserNo
+    """)
+    List<Long> findGroupRecipientNosByTipNo(@Param("tipNo") Long tipNo,
+                                            @Param("excludeUserNo") Long excludeUserNo);
 }
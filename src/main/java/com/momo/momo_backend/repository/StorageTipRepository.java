@@ -1,18 +1,20 @@
 package com.momo.momo_backend.repository;
 
-import com.momo.momo_backend.entity.Storage;
 import com.momo.momo_backend.entity.StorageTip;
 import com.momo.momo_backend.entity.Tip;
 import com.momo.momo_backend.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface StorageTipRepository extends JpaRepository<StorageTip, Long> {
-    // 꿀팁이 보관함에 이미 저장되었는지 확인하기 위한 메서드
-    boolean existsByStorageAndTip(Storage storage, Tip tip);
+    // 중복이면 아무것도 하지 않는 단일 INSERT (uk_storage_tip_storage_tip, UniqueKeyInitializer가 보장). 실제로 추가된 행 수(0 또는 1) 반환
+    @Modifying
+    @Query(value = "INSERT INTO storage_tip (storage_no, tip_no) VALUES (:storageNo, :tipNo) " +
+            "ON CONFLICT (storage_no, tip_no) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("storageNo") Long storageNo, @Param("tipNo") Long tipNo);
 
     // 사용자와 꿀팁 기준으로 모든 보관함-꿀팁 관계를 삭제하는 쿼리 추가
     @Modifying
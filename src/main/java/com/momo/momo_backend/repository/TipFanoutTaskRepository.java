@@ -0,0 +1,16 @@
+package com.momo.momo_backend.repository;
+
+import com.momo.momo_backend.entity.TipFanoutTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TipFanoutTaskRepository extends JpaRepository<TipFanoutTask, Long> {
+
+    // 재개 대상(미완료) 작업 번호, 오래된 순
+    @Query("SELECT t.no FROM TipFanoutTask t WHERE t.status = :status ORDER BY t.no")
+    List<Long> findNosByStatus(@Param("status") TipFanoutTask.Status status, Pageable pageable);
+}
@@ -1,47 +1,115 @@
 package com.momo.momo_backend.repository;
 
+import com.momo.momo_backend.dto.TipRow;
 import com.momo.momo_backend.entity.Tip;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TipRepository extends JpaRepository<Tip, Long> {
-    // 전체 공개 & 등록된 팁 조회
-    @Query("""
-           SELECT t
+    /*
+     * 목록 조회는 모두 TipRow 프로젝션 + (createdAt, no) 내림차순 키셋 페이지.
+     * 첫 페이지는 TipCursor.FIRST를 넘긴다. 크기는 Pageable(size + 1로 다음 페이지 유무 판단)
+     * "createdAt <= :cursorAt"을 따로 두어 (created_at, no) 인덱스 범위 조건으로 쓰이게 한다.
+     */
+
+    // 전체 공개 & 등록된 팁 조회 (보관함 여러 곳에 담겨도 한 번만: JOIN 대신 EXISTS)
+    @Query(TipRow.SELECT + """
            FROM Tip t
-           JOIN t.storageTips st
+           JOIN t.user u
            WHERE t.isPublic = true
-           ORDER BY t.createdAt DESC
+             AND EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t)
+             AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.no < :cursorNo)
+           ORDER BY t.createdAt DESC, t.no DESC
            """)
-    List<Tip> findAllPublicRegisteredTipsOrderByCreatedAtDesc();
+    List<TipRow> findPublicRegisteredTipsBefore(@Param("cursorAt") LocalDateTime cursorAt,
+                                                @Param("cursorNo") Long cursorNo,
+                                                Pageable pageable);
 
 
     // 특정 사용자가 등록한 팁 조회
-    @Query("""
-           SELECT t
+    @Query(TipRow.SELECT + """
            FROM Tip t
-           JOIN t.storageTips st
-           WHERE t.user.no = :userNo
-           ORDER BY t.createdAt DESC
+           JOIN t.user u
+           WHERE u.no = :userNo
+             AND EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t)
+             AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.no < :cursorNo)
+           ORDER BY t.createdAt DESC, t.no DESC
            """)
-    List<Tip> findRegisteredTipsByUserNo(@Param("userNo") Long userNo);
+    List<TipRow> findRegisteredTipsByUserNoBefore(@Param("userNo") Long userNo,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorNo") Long cursorNo,
+                                                  Pageable pageable);
 
 
     /* ====== 특정 보관함(ID) (등록된 팁만) ====== */
-    @Query("""
-           SELECT st.tip
-           FROM   StorageTip st
-           WHERE  st.storage.no = :storageId
-           ORDER  BY st.tip.createdAt DESC
+    @Query(TipRow.SELECT + """
+           FROM   Tip t
+           JOIN   t.user u
+           WHERE  EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t AND st.storage.no = :storageId)
+             AND  t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.no < :cursorNo)
+           ORDER  BY t.createdAt DESC, t.no DESC
            """)
-    List<Tip> findTipsByStorageId(@Param("storageId") Long storageId);
+    List<TipRow> findTipsByStorageIdBefore(@Param("storageId") Long storageId,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorNo") Long cursorNo,
+                                           Pageable pageable);
     Optional<Tip> findByNoAndUser_No(Long tipNo, Long userNo);
 
 
-    // 특정 사용자가 작성한 공개 꿀팁 목록을 최신순으로 조회하는 메서드 추가
-    List<Tip> findAllByUser_NoAndIsPublicTrueOrderByCreatedAtDesc(Long userNo);
+    // 특정 사용자가 작성한 공개 꿀팁 목록을 최신순으로 조회
+    @Query(TipRow.SELECT + """
+           FROM Tip t
+           JOIN t.user u
+           WHERE u.no = :userNo
+             AND t.isPublic = true
+             AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.no < :cursorNo)
+           ORDER BY t.createdAt DESC, t.no DESC
+           """)
+    List<TipRow> findPublicTipsByUserNoBefore(@Param("userNo") Long userNo,
+                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                              @Param("cursorNo") Long cursorNo,
+                                              Pageable pageable);
+
+    // 여러 팁을 행으로 한 번에 조회 (검색/랭킹 등 id 목록 기반 화면용, 순서는 호출 측에서 맞춤)
+    @Query(TipRow.SELECT + "FROM Tip t JOIN t.user u WHERE t.no IN :tipNos")
+    List<TipRow> findRowsByNoIn(@Param("tipNos") Collection<Long> tipNos);
+
+    @Query(TipRow.SELECT + "FROM Tip t JOIN t.user u WHERE t.no = :tipNo")
+    Optional<TipRow> findRowByNo(@Param("tipNo") Long tipNo);
+
+    // 작성자의 모든 팁 번호 (닉네임 변경 시 요약 캐시 무효화용)
+    @Query("SELECT t.no FROM Tip t WHERE t.user.no = :userNo")
+    List<Long> findNosByUserNo(@Param("userNo") Long userNo);
+
+    // 홈 피드 타임라인 재구성: 팔로잉 작성자들의 최근 공개 팁 키 (타임라인이 없을 때 한 번만)
+    @Query("""
+           SELECT t.no AS tipNo, t.user.no AS authorNo, t.createdAt AS createdAt
+           FROM Tip t
+           WHERE t.isPublic = true
+             AND t.user.no IN (SELECT f.following.no FROM Follow f WHERE f.follower.no = :userNo)
+           ORDER BY t.createdAt DESC, t.no DESC
+           """)
+    List<TipFeedKey> findFeedKeysByFollowerNo(@Param("userNo") Long userNo, Pageable pageable);
+
+    // 작성자 타임라인 재구성 / 팔로우 시 채우기
+    @Query("""
+           SELECT t.no AS tipNo, t.user.no AS authorNo, t.createdAt AS createdAt
+           FROM Tip t
+           WHERE t.isPublic = true AND t.user.no = :authorNo
+           ORDER BY t.createdAt DESC, t.no DESC
+           """)
+    List<TipFeedKey> findFeedKeysByAuthorNo(@Param("authorNo") Long authorNo, Pageable pageable);
+
+    interface TipFeedKey {
+        Long getTipNo();
+        Long getAuthorNo();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TipTagRepository extends JpaRepository<TipTag, Long> {
@@ -14,4 +15,13 @@ public interface TipTagRepository extends JpaRepository<TipTag, Long> {
     void deleteByTipNo(@Param("tipNo") Long tipNo);
 
     List<TipTag> findByTip_No(Long tipNo);
+
+    // 목록 화면용: 여러 팁의 (tip no, tag no)를 한 번에 (이름은 TagDictionary에서 해석)
+    @Query("SELECT tt.tip.no AS tipNo, tt.tag.no AS tagNo FROM TipTag tt WHERE tt.tip.no IN :tipNos ORDER BY tt.no")
+    List<TipTagNo> findTagNosByTipNoIn(@Param("tipNos") Collection<Long> tipNos);
+
+    interface TipTagNo {
+        Long getTipNo();
+        Long getTagNo();
+    }
 }
\ No newline at end of file
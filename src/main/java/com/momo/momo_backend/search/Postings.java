@@ -0,0 +1,89 @@
+package com.momo.momo_backend.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 정렬된 int[] 포스팅 리스트 연산 (불변: 변경 시 새 배열을 돌려준다).
+ * 읽기 스레드는 잠금 없이 배열 참조만 읽으므로 갱신은 항상 copy-on-write.
+ */
+final class Postings {
+
+    static final int[] EMPTY = new int[0];
+
+    private Postings() {}
+
+    static boolean contains(int[] postings, int id) {
+        return Arrays.binarySearch(postings, id) >= 0;
+    }
+
+    static int[] with(int[] postings, int id) {
+        int pos = Arrays.binarySearch(postings, id);
+        if (pos >= 0) return postings;
+        int at = -pos - 1;
+        int[] next = new int[postings.length + 1];
+        System.arraycopy(postings, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(postings, at, next, at + 1, postings.length - at);
+        return next;
+    }
+
+    static int[] without(int[] postings, int id) {
+        int at = Arrays.binarySearch(postings, id);
+        if (at < 0) return postings;
+        if (postings.length == 1) return EMPTY;
+        int[] next = new int[postings.length - 1];
+        System.arraycopy(postings, 0, next, 0, at);
+        System.arraycopy(postings, at + 1, next, at, postings.length - at - 1);
+        return next;
+    }
+
+    /** 교집합: 짧은 쪽을 순회하며 긴 쪽은 남은 구간에서만 이진 탐색 */
+    static int[] and(int[] a, int[] b) {
+        if (a.length > b.length) return and(b, a);
+        if (a.length == 0) return EMPTY;
+        int[] out = new int[a.length];
+        int n = 0;
+        int from = 0;
+        for (int id : a) {
+            int pos = Arrays.binarySearch(b, from, b.length, id);
+            if (pos >= 0) {
+                out[n++] = id;
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+                if (from == b.length) break;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /** 합집합: 두 개는 병합, 여러 개는 비트셋에 모은 뒤 다시 정렬 배열로 */
+    static int[] or(List<int[]> lists) {
+        if (lists.isEmpty()) return EMPTY;
+        if (lists.size() == 1) return lists.get(0);
+        if (lists.size() == 2) return merge(lists.get(0), lists.get(1));
+        BitSet bits = new BitSet();
+        for (int[] list : lists) {
+            for (int id : list) bits.set(id);
+        }
+        return bits.stream().toArray();
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (a[i] > b[j]) out[n++] = b[j++];
+            else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+}
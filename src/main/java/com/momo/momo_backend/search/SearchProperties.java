@@ -0,0 +1,23 @@
+package com.momo.momo_backend.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** 꿀팁 검색 설정 (search.*) */
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+    // database: PostgreSQL 전문 검색 / memory: 노드 내 역색인 (준비 전에는 database로 처리)
+    private String engine = "database";
+    private long indexRebuildIntervalMs = 21_600_000; // 이벤트 누락 보정을 위한 전체 재구성 주기
+    private int indexLoadBatchSize = 5_000;
+
+    public boolean isMemoryEngine() { return "memory".equalsIgnoreCase(engine); }
+
+    public String getEngine() { return engine; }
+    public void setEngine(String engine) { this.engine = engine; }
+
+    public long getIndexRebuildIntervalMs() { return indexRebuildIntervalMs; }
+    public void setIndexRebuildIntervalMs(long indexRebuildIntervalMs) { this.indexRebuildIntervalMs = indexRebuildIntervalMs; }
+
+    public int getIndexLoadBatchSize() { return indexLoadBatchSize; }
+    public void setIndexLoadBatchSize(int indexLoadBatchSize) { this.indexLoadBatchSize = indexLoadBatchSize; }
+}
@@ -0,0 +1,90 @@
+package com.momo.momo_backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 토크나이저.
+ * - 소문자/NFKC 정규화 후 문자·숫자가 아닌 곳에서 분리
+ * - 한글 구간은 음절 unigram + bigram (형태소 분석 없이 부분 일치 지원: "자취생" → 자,취,생,자취,취생)
+ * - 그 외(영문/숫자)는 단어 그대로
+ * 문서 쪽(indexTokens)과 질의 쪽(queryTerms)이 같은 규칙을 공유한다.
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {}
+
+    /** 한 단어 질의에 대응하는 토큰 묶음 (묶음 내부는 모두 일치해야 함) */
+    public record QueryTerm(List<String> tokens, boolean prefix) {}
+
+    /** 문서 색인용 토큰 (공백 구분 문자열, 중복 제거) */
+    public static String indexTokens(String... fields) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) continue;
+            for (String run : runs(field)) {
+                if (isHangul(run.charAt(0))) {
+                    for (int i = 0; i < run.length(); i++) {
+                        tokens.add(run.substring(i, i + 1));
+                        if (i + 1 < run.length()) tokens.add(run.substring(i, i + 2));
+                    }
+                } else {
+                    tokens.add(run);
+                }
+            }
+        }
+        return String.join(" ", tokens);
+    }
+
+    /** 질의 단어별 토큰. 한글은 bigram(한 글자면 unigram), 그 외는 접두어 일치 */
+    public static List<QueryTerm> queryTerms(String keyword) {
+        List<QueryTerm> terms = new ArrayList<>();
+        if (keyword == null || keyword.isBlank()) return terms;
+        for (String word : keyword.trim().split("\\s+")) {
+            for (String run : runs(word)) {
+                if (isHangul(run.charAt(0))) {
+                    List<String> grams = new ArrayList<>();
+                    if (run.length() == 1) {
+                        grams.add(run);
+                    } else {
+                        for (int i = 0; i + 1 < run.length(); i++) grams.add(run.substring(i, i + 2));
+                    }
+                    terms.add(new QueryTerm(grams, false));
+                } else {
+                    terms.add(new QueryTerm(List.of(run), true));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /** 정규화 후 (한글 연속 구간 | 그 외 문자·숫자 연속 구간)으로 분리 */
+    private static List<String> runs(String text) {
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> runs = new ArrayList<>();
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= s.length(); i++) {
+            char c = i < s.length() ? s.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean hangul = wordChar && isHangul(c);
+            if (start >= 0 && (!wordChar || hangul != hangulRun)) {
+                runs.add(s.substring(start, i));
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return runs;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,4 @@
+package com.momo.momo_backend.search;
+
+/** 보관함 삭제 (storage_tip도 함께 삭제됨) */
+public record StorageDeletedEvent(Long storageNo) {}
@@ -0,0 +1,460 @@
+package com.momo.momo_backend.search;
+
+import com.momo.momo_backend.dto.TipCursor;
+import com.momo.momo_backend.realtime.events.TipCreatedEvent;
+import com.momo.momo_backend.realtime.events.TipDeletedEvent;
+import com.momo.momo_backend.realtime.events.TipUpdatedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 노드 내 꿀팁 역색인 (search.engine=memory).
+ * - 용어 사전은 정렬 맵(접두어 범위 조회), 용어마다 tip no의 정렬 int[] 포스팅
+ * - 문서별로 용어 참조/공개 여부/등록 시각/담긴 보관함(소유자·그룹)을 들고 있어 범위 필터도 메모리에서 처리
+ * - 기동 시 tip/storage_tip에서 구성하고, 이후 꿀팁 등록·수정·삭제/보관함 변경 이벤트로 해당 팁만 다시 읽어 증분 반영
+ * - 갱신은 단일 writer 스레드에서만, 조회는 잠금 없이 (포스팅은 copy-on-write)
+ * - 다른 노드의 변경은 Redis pub/sub로 전달받아 같은 방식으로 반영
+ * DB는 색인 구성/갱신과 최종 페이지의 꿀팁 본문 조회에만 쓴다.
+ */
+@Slf4j
+@Component
+public class TipInvertedIndex implements MessageListener {
+
+    public static final String CHANNEL = "search:index-events";
+
+    private static final String TIP_COLUMNS = "no, search_tokens, title, content_summary, url, is_public, created_at";
+    private static final String SELECT_TIPS_AFTER =
+            "SELECT " + TIP_COLUMNS + " FROM tip WHERE no > ? ORDER BY no LIMIT ?";
+    private static final String SELECT_TIP = "SELECT " + TIP_COLUMNS + " FROM tip WHERE no = ?";
+    private static final String SELECT_PLACEMENTS_BETWEEN = """
+            SELECT st.tip_no, st.storage_no, s.user_no, s.group_no
+            FROM storage_tip st
+              JOIN storage s ON s.no = st.storage_no
+            WHERE st.tip_no BETWEEN ? AND ?
+            """;
+
+    private static final char KIND_TIP = 'T';
+    private static final char KIND_TIP_DELETED = 'D';
+    private static final char KIND_STORAGE_DELETED = 'S';
+
+    /** 검색 범위 (TipSearchService의 SCOPE_* 조건과 같은 의미) */
+    public record Scope(Kind kind, long value) {
+        public enum Kind { PUBLIC, MY, GROUP, STORAGE }
+
+        public static Scope publicTips() { return new Scope(Kind.PUBLIC, 0); }
+        public static Scope my(long userNo) { return new Scope(Kind.MY, userNo); }
+        public static Scope group(long groupNo) { return new Scope(Kind.GROUP, groupNo); }
+        public static Scope storage(long storageNo) { return new Scope(Kind.STORAGE, storageNo); }
+
+        boolean matches(Doc doc) {
+            if (kind == Kind.PUBLIC) return doc.isPublic() && doc.placements().length > 0;
+            for (Placement p : doc.placements()) {
+                long v = switch (kind) {
+                    case MY -> p.ownerNo();
+                    case GROUP -> p.groupNo();
+                    default -> p.storageNo();
+                };
+                if (v == value) return true;
+            }
+            return false;
+        }
+    }
+
+    /** 사전의 한 용어. postings는 writer 스레드만 교체 */
+    static final class Term {
+        final String text;
+        volatile int[] postings = Postings.EMPTY;
+        private int[] pending;   // 전체 구성 중에만 사용 (no 오름차순으로 append)
+        private int pendingSize;
+
+        Term(String text) {
+            this.text = text;
+        }
+
+        void append(int id) {
+            if (pending == null) pending = new int[4];
+            else if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pendingSize * 2);
+            pending[pendingSize++] = id;
+        }
+
+        void seal() {
+            postings = pending == null ? Postings.EMPTY : Arrays.copyOf(pending, pendingSize);
+            pending = null;
+            pendingSize = 0;
+        }
+    }
+
+    /** 보관함 배치 정보 (groupNo 0 = 개인 보관함) */
+    record Placement(long storageNo, long ownerNo, long groupNo) {}
+
+    record Doc(Term[] terms, boolean isPublic, long createdAtMs, Placement[] placements) {}
+
+    private record Row(int id, String[] tokens, boolean isPublic, long createdAtMs) {}
+
+    private record Hit(int id, int score, long createdAtMs) {}
+
+    private record Snapshot(ConcurrentSkipListMap<String, Term> dictionary, ConcurrentHashMap<Integer, Doc> docs) {}
+
+    private static final Comparator<Hit> RELEVANCE = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::createdAtMs).reversed())
+            .thenComparing(Comparator.comparingInt(Hit::id).reversed());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SearchProperties props;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ExecutorService writer;
+    private final Timer queryTimer;
+
+    private volatile Snapshot state = new Snapshot(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+    private volatile boolean ready = false;
+
+    public TipInvertedIndex(JdbcTemplate jdbcTemplate, StringRedisTemplate stringRedisTemplate,
+                            SearchProperties props, RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.props = props;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "tip-search-index");
+            t.setDaemon(true);
+            return t;
+        });
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        this.queryTimer = Timer.builder("search.index.query")
+                .description("역색인 질의 처리 시간 (본문 조회 제외)")
+                .register(meterRegistry);
+        Gauge.builder("search.index.docs", this, idx -> idx.state.docs().size())
+                .description("역색인에 적재된 꿀팁 수")
+                .register(meterRegistry);
+        Gauge.builder("search.index.terms", this, idx -> idx.state.dictionary().size())
+                .description("역색인 용어 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===================== 조회 =====================
+
+    /**
+     * 질의 → 범위 필터 → 관련도(일치한 단어 수) → 최신순 → no 정렬에서 after 다음 limit건.
+     * 단어 내부 토큰은 모두 일치, 단어끼리는 andMode(AND/OR). 접두어 단어는 사전 범위 합집합.
+     * 전체 정렬 없이 크기 limit 힙으로 고르므로 페이지 깊이와 무관하게 후보 수에만 비례한다.
+     */
+    public List<TipCursor> search(List<SearchTokenizer.QueryTerm> terms, boolean andMode, Scope scope,
+                                  TipCursor after, int limit) {
+        // DB 전문 검색이 발급한 커서(score = ts_rank)는 이어받을 수 없음
+        if (after != null && after.engine() != TipCursor.Engine.MEMORY) throw new IllegalArgumentException(TipCursor.INVALID);
+        return queryTimer.record(() -> {
+            Snapshot s = state;
+            List<int[]> perTerm = new ArrayList<>(terms.size());
+            for (SearchTokenizer.QueryTerm term : terms) {
+                perTerm.add(match(s.dictionary(), term));
+            }
+
+            int[] candidates;
+            if (andMode) {
+                perTerm.sort(Comparator.comparingInt(p -> p.length)); // 짧은 포스팅부터 교집합
+                candidates = perTerm.isEmpty() ? Postings.EMPTY : perTerm.get(0);
+                for (int i = 1; i < perTerm.size() && candidates.length > 0; i++) {
+                    candidates = Postings.and(candidates, perTerm.get(i));
+                }
+            } else {
+                candidates = Postings.or(perTerm);
+            }
+
+            Hit boundary = after == null ? null : new Hit(toId(after.no()),
+                    after.score() == null ? Integer.MAX_VALUE : after.score().intValue(),
+                    Timestamp.valueOf(after.createdAt()).getTime());
+            PriorityQueue<Hit> best = new PriorityQueue<>(RELEVANCE.reversed()); // head = 현재 가장 뒤 순위
+            for (int id : candidates) {
+                Doc doc = s.docs().get(id);
+                if (doc == null || !scope.matches(doc)) continue;
+                Hit hit = new Hit(id, andMode ? perTerm.size() : matchCount(perTerm, id), doc.createdAtMs());
+                if (boundary != null && RELEVANCE.compare(hit, boundary) <= 0) continue;
+                best.add(hit);
+                if (best.size() > limit) best.poll();
+            }
+
+            List<Hit> page = new ArrayList<>(best);
+            page.sort(RELEVANCE);
+            List<TipCursor> result = new ArrayList<>(page.size());
+            for (Hit hit : page) {
+                result.add(new TipCursor((float) hit.score(), new Timestamp(hit.createdAtMs()).toLocalDateTime(),
+                        (long) hit.id(), TipCursor.Engine.MEMORY));
+            }
+            return result;
+        });
+    }
+
+    private static int[] match(ConcurrentSkipListMap<String, Term> dictionary, SearchTokenizer.QueryTerm term) {
+        int[] hits = null;
+        for (String token : term.tokens()) {
+            int[] postings;
+            if (term.prefix()) {
+                List<int[]> lists = new ArrayList<>();
+                dictionary.subMap(token, true, token + Character.MAX_VALUE, true)
+                        .values().forEach(t -> lists.add(t.postings));
+                postings = Postings.or(lists);
+            } else {
+                Term t = dictionary.get(token);
+                postings = t == null ? Postings.EMPTY : t.postings;
+            }
+            hits = hits == null ? postings : Postings.and(hits, postings);
+            if (hits.length == 0) break;
+        }
+        return hits == null ? Postings.EMPTY : hits;
+    }
+
+    private static int matchCount(List<int[]> perTerm, int id) {
+        int count = 0;
+        for (int[] postings : perTerm) {
+            if (Postings.contains(postings, id)) count++;
+        }
+        return count;
+    }
+
+    // ===================== 변경 이벤트 =====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipCreated(TipCreatedEvent e) {
+        changed(KIND_TIP, e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipUpdated(TipUpdatedEvent e) {
+        changed(KIND_TIP, e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipPlacementChanged(TipPlacementChangedEvent e) {
+        changed(KIND_TIP, e.tipNo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTipDeleted(TipDeletedEvent e) {
+        changed(KIND_TIP_DELETED, e.tipId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStorageDeleted(StorageDeletedEvent e) {
+        changed(KIND_STORAGE_DELETED, e.storageNo());
+    }
+
+    /** 다른 노드의 변경: "{nodeId}|{kind}|{no}" */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3 || nodeId.equals(parts[0]) || parts[1].length() != 1) return;
+        try {
+            submit(parts[1].charAt(0), Long.parseLong(parts[2]));
+        } catch (NumberFormatException ex) {
+            log.warn("잘못된 검색 색인 이벤트: {}", parts[2]);
+        }
+    }
+
+    private void changed(char kind, Long no) {
+        if (!props.isMemoryEngine() || no == null) return;
+        submit(kind, no);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + "|" + kind + "|" + no);
+        } catch (DataAccessException ex) {
+            log.warn("검색 색인 이벤트 전파 실패 {}{}: {}", kind, no, ex.getMessage());
+        }
+    }
+
+    private void submit(char kind, long no) {
+        if (!props.isMemoryEngine()) return;
+        execute(() -> {
+            switch (kind) {
+                case KIND_TIP -> reindex(no);
+                case KIND_TIP_DELETED -> remove(toId(no));
+                case KIND_STORAGE_DELETED -> removeStorage(no);
+                default -> log.warn("알 수 없는 검색 색인 이벤트 종류: {}", kind);
+            }
+        });
+    }
+
+    private void execute(Runnable task) {
+        try {
+            writer.execute(() -> {
+                try {
+                    task.run();
+                } catch (DataAccessException e) {
+                    log.warn("검색 색인 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이라 검색 색인 갱신 생략");
+        }
+    }
+
+    // ===================== 구성 / 갱신 (writer 스레드) =====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (props.isMemoryEngine()) execute(this::rebuild);
+    }
+
+    /** 이벤트 유실(노드 재시작 중 변경, Redis 단절 등) 보정용 전체 재구성 */
+    @Scheduled(fixedDelayString = "${search.index-rebuild-interval-ms:21600000}",
+            initialDelayString = "${search.index-rebuild-interval-ms:21600000}")
+    public void rebuildPeriodically() {
+        if (props.isMemoryEngine() && ready) execute(this::rebuild);
+    }
+
+    /** tip을 no 순서로 나눠 읽어 새 사전을 만든 뒤 한 번에 교체 (구성 중 조회는 이전 색인/DB로 처리) */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        ConcurrentSkipListMap<String, Term> dictionary = new ConcurrentSkipListMap<>();
+        ConcurrentHashMap<Integer, Doc> docs = new ConcurrentHashMap<>();
+        int batchSize = Math.max(1, props.getIndexLoadBatchSize());
+
+        long lastNo = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_TIPS_AFTER, TipInvertedIndex::toRow, lastNo, batchSize);
+            if (rows.isEmpty()) break;
+            int firstId = rows.get(0).id();
+            int lastId = rows.get(rows.size() - 1).id();
+            Map<Integer, List<Placement>> placements = loadPlacements(firstId, lastId);
+
+            for (Row row : rows) {
+                Term[] terms = new Term[row.tokens().length];
+                for (int i = 0; i < terms.length; i++) {
+                    Term term = dictionary.computeIfAbsent(row.tokens()[i], Term::new);
+                    term.append(row.id());
+                    terms[i] = term;
+                }
+                docs.put(row.id(), new Doc(terms, row.isPublic(), row.createdAtMs(),
+                        placements.getOrDefault(row.id(), List.of()).toArray(new Placement[0])));
+            }
+            lastNo = lastId;
+            if (rows.size() < batchSize) break;
+        }
+        dictionary.values().forEach(Term::seal);
+
+        state = new Snapshot(dictionary, docs);
+        ready = true;
+        log.info("꿀팁 검색 역색인 구성 완료: 문서 {}건, 용어 {}개, {}ms",
+                docs.size(), dictionary.size(), System.currentTimeMillis() - started);
+    }
+
+    /** 팁 한 건을 DB에서 다시 읽어 반영 (없으면 제거) */
+    void reindex(long tipNo) {
+        if (!ready) return; // 구성 전 변경은 이어지는 전체 구성에 포함됨
+        List<Row> rows = jdbcTemplate.query(SELECT_TIP, TipInvertedIndex::toRow, tipNo);
+        int id = toId(tipNo);
+        if (rows.isEmpty()) {
+            remove(id);
+            return;
+        }
+        Row row = rows.get(0);
+        Placement[] placements = loadPlacements(id, id).getOrDefault(id, List.of()).toArray(new Placement[0]);
+
+        Snapshot s = state;
+        Doc old = s.docs().get(id);
+        Set<String> fresh = new HashSet<>(Arrays.asList(row.tokens()));
+        Term[] terms = new Term[fresh.size()];
+        int n = 0;
+        for (String token : fresh) {
+            Term term = s.dictionary().computeIfAbsent(token, Term::new);
+            term.postings = Postings.with(term.postings, id);
+            terms[n++] = term;
+        }
+        s.docs().put(id, new Doc(terms, row.isPublic(), row.createdAtMs(), placements));
+        if (old != null) {
+            for (Term term : old.terms()) {
+                if (!fresh.contains(term.text)) detach(s, term, id);
+            }
+        }
+    }
+
+    void remove(int id) {
+        if (!ready) return;
+        Snapshot s = state;
+        Doc old = s.docs().remove(id);
+        if (old == null) return;
+        for (Term term : old.terms()) detach(s, term, id);
+    }
+
+    void removeStorage(long storageNo) {
+        if (!ready) return;
+        Snapshot s = state;
+        s.docs().replaceAll((id, doc) -> {
+            Placement[] kept = Arrays.stream(doc.placements())
+                    .filter(p -> p.storageNo() != storageNo)
+                    .toArray(Placement[]::new);
+            return kept.length == doc.placements().length
+                    ? doc
+                    : new Doc(doc.terms(), doc.isPublic(), doc.createdAtMs(), kept);
+        });
+    }
+
+    private static void detach(Snapshot s, Term term, int id) {
+        term.postings = Postings.without(term.postings, id);
+        if (term.postings.length == 0) s.dictionary().remove(term.text, term);
+    }
+
+    private Map<Integer, List<Placement>> loadPlacements(int fromId, int toId) {
+        Map<Integer, List<Placement>> placements = new HashMap<>();
+        jdbcTemplate.query(SELECT_PLACEMENTS_BETWEEN, rs -> {
+            long groupNo = rs.getLong(4); // NULL → 0
+            placements.computeIfAbsent(toId(rs.getLong(1)), k -> new ArrayList<>())
+                    .add(new Placement(rs.getLong(2), rs.getLong(3), groupNo));
+        }, fromId, toId);
+        return placements;
+    }
+
+    private static Row toRow(ResultSet rs, int rowNum) throws SQLException {
+        String stored = rs.getString("search_tokens");
+        String tokens = stored != null
+                ? stored
+                : SearchTokenizer.indexTokens(rs.getString("title"), rs.getString("content_summary"), rs.getString("url"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Row(
+                toId(rs.getLong("no")),
+                tokens.isEmpty() ? new String[0] : tokens.split(" "),
+                rs.getBoolean("is_public"),
+                createdAt == null ? 0 : createdAt.getTime());
+    }
+
+    /** 포스팅은 int로 보관 (tip no가 int 범위를 넘으면 예외) */
+    private static int toId(long tipNo) {
+        return Math.toIntExact(tipNo);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+    }
+}
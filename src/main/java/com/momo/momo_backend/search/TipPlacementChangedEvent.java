@@ -0,0 +1,4 @@
+package com.momo.momo_backend.search;
+
+/** 꿀팁이 담긴 보관함 목록(storage_tip)이 바뀌었음을 알리는 이벤트 */
+public record TipPlacementChangedEvent(Long tipNo) {}
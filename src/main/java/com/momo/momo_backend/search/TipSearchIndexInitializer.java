@@ -0,0 +1,62 @@
+package com.momo.momo_backend.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 tip.search_tokens 전문 검색 인덱스(GIN) 생성 및 기존 행 토큰 채우기.
+ * (ddl-auto로는 표현식 인덱스를 만들 수 없어 여기서 관리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TipSearchIndexInitializer {
+
+    public static final String TS_VECTOR = "to_tsvector('simple', coalesce(t.search_tokens, ''))";
+
+    private static final String CREATE_INDEX =
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tip_search_tokens ON tip "
+                    + "USING GIN (to_tsvector('simple', coalesce(search_tokens, '')))";
+    private static final String SELECT_MISSING =
+            "SELECT no, title, content_summary, url FROM tip WHERE search_tokens IS NULL ORDER BY no LIMIT ?";
+    private static final String UPDATE_TOKENS = "UPDATE tip SET search_tokens = ? WHERE no = ?";
+    private static final int BACKFILL_BATCH = 500;
+
+    private record Row(long no, String tokens) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            int filled = backfill();
+            jdbcTemplate.execute(CREATE_INDEX);
+            log.info("꿀팁 검색 인덱스 준비 완료 (토큰 채움 {}건)", filled);
+        } catch (DataAccessException e) {
+            log.warn("꿀팁 검색 인덱스 준비 실패: {}", e.getMessage());
+        }
+    }
+
+    private int backfill() {
+        int total = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_MISSING, (rs, i) -> new Row(
+                    rs.getLong("no"),
+                    SearchTokenizer.indexTokens(rs.getString("title"), rs.getString("content_summary"), rs.getString("url"))
+            ), BACKFILL_BATCH);
+            if (rows.isEmpty()) return total;
+            jdbcTemplate.batchUpdate(UPDATE_TOKENS, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.tokens());
+                ps.setLong(2, row.no());
+            });
+            total += rows.size();
+        }
+    }
+}
@@ -1,29 +1,95 @@
 package com.momo.momo_backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.momo_backend.cache.TipSummaryCache;
 import com.momo.momo_backend.dto.TipDto;
-import com.momo.momo_backend.entity.Tip;
+import com.momo.momo_backend.ranking.WeeklyBookmarkRanking;
 import com.momo.momo_backend.repository.BookmarkRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookmarkQueryService {
 
+    private static final int WEEKLY_TOP_N = 10;
+    private static final String WEEKLY_SNAPSHOT_KEY = "RANKING:BOOKMARK:WEEKLY:SNAPSHOT";
+    private static final Duration WEEKLY_SNAPSHOT_TTL = Duration.ofSeconds(30);
+
     private final BookmarkRepository bookmarkRepository;
+    private final TipSummaryCache tipSummaryCache;
+    private final WeeklyBookmarkRanking weeklyBookmarkRanking;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
 
-    // 주간 북마크 랭킹 조회
+    // 주간 북마크 랭킹 조회: 캐시된 스냅샷 → Redis 랭킹 → (Redis 장애 시) DB 집계
     public List<TipDto.WeeklyRankingResponse> getWeeklyBookmarkRanking() {
+        try {
+            List<TipDto.WeeklyRankingResponse> snapshot = readSnapshot();
+            if (snapshot != null) return snapshot;
+
+            List<TipDto.WeeklyRankingResponse> ranking = hydrate(weeklyBookmarkRanking.top(WEEKLY_TOP_N));
+            writeSnapshot(ranking);
+            return ranking;
+        } catch (DataAccessException e) {
+            log.warn("Redis 주간 랭킹 조회 실패, DB 집계로 대체: {}", e.getMessage());
+            return getWeeklyBookmarkRankingFromDatabase();
+        }
+    }
+
+    // 랭킹 순서를 유지하며 팁 정보 채우기 (삭제된 팁은 제외)
+    private List<TipDto.WeeklyRankingResponse> hydrate(List<WeeklyBookmarkRanking.RankedTip> ranked) {
+        if (ranked.isEmpty()) return List.of();
+        List<Long> tipNos = ranked.stream().map(WeeklyBookmarkRanking.RankedTip::tipNo).toList();
+        Map<Long, TipSummaryCache.Summary> summaries = tipSummaryCache.getAll(tipNos);
+
+        return ranked.stream()
+                .map(r -> {
+                    TipSummaryCache.Summary s = summaries.get(r.tipNo());
+                    return s == null ? null : TipDto.WeeklyRankingResponse.from(s.row(), r.count(), s.tags());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<TipDto.WeeklyRankingResponse> readSnapshot() {
+        String json = stringRedisTemplate.opsForValue().get(WEEKLY_SNAPSHOT_KEY);
+        if (json == null) return null;
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<TipDto.WeeklyRankingResponse>>() {});
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void writeSnapshot(List<TipDto.WeeklyRankingResponse> ranking) {
+        try {
+            stringRedisTemplate.opsForValue().set(WEEKLY_SNAPSHOT_KEY,
+                    objectMapper.writeValueAsString(ranking), WEEKLY_SNAPSHOT_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("주간 랭킹 스냅샷 직렬화 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<TipDto.WeeklyRankingResponse> getWeeklyBookmarkRankingFromDatabase() {
         LocalDateTime startDate = LocalDateTime.now().minusDays(7);
-        PageRequest pageRequest = PageRequest.of(0, 10);
+        PageRequest pageRequest = PageRequest.of(0, WEEKLY_TOP_N);
 
         List<Object[]> results = bookmarkRepository.findWeeklyRanking(startDate, pageRequest);
 
@@ -31,15 +97,10 @@ public class BookmarkQueryService {
             return Collections.emptyList();
         }
 
-        return results.stream()
-                .map(result -> {
-                    if (result != null && result.length >= 2 &&
-                            result[0] instanceof Tip tip && result[1] instanceof Long count) {
-                        return TipDto.WeeklyRankingResponse.from(tip, count);
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return hydrate(results.stream()
+                .filter(result -> result != null && result.length >= 2
+                        && result[0] instanceof Long && result[1] instanceof Long)
+                .map(result -> new WeeklyBookmarkRanking.RankedTip((Long) result[0], (Long) result[1]))
+                .toList());
     }
-}
\ No newline at end of file
+}
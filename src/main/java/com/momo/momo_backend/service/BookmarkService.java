@@ -3,15 +3,17 @@ package com.momo.momo_backend.service;
 import com.momo.momo_backend.dto.BookmarkAndSaveRequest;
 import com.momo.momo_backend.entity.*;
 import com.momo.momo_backend.enums.NotificationType;
+import com.momo.momo_backend.notification.NotificationOutboxWriter;
+import com.momo.momo_backend.ranking.BookmarkChangedEvent;
 import com.momo.momo_backend.repository.*;
-import com.momo.momo_backend.realtime.events.NotificationCreatedEvent; // ✅ 추가
+import com.momo.momo_backend.search.TipPlacementChangedEvent;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;              // ✅ 추가
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;                                             // ✅ 추가
 import java.time.LocalDateTime;
 
 @Service
@@ -25,22 +27,24 @@ public class BookmarkService {
     private final StorageRepository storageRepository;
     private final StorageTipRepository storageTipRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final NotificationOutboxWriter notificationOutboxWriter;
     private final ApplicationEventPublisher eventPublisher;
 
-
+    @Transactional
     public void addBookmark(Long tipNo, User user) {
+        // 조회 없이 바로 INSERT: 이미 있으면 0건 (중복 탭/재시도에도 한 번만 알림)
+        LocalDateTime now = LocalDateTime.now();
+        int inserted;
+        try {
+            inserted = bookmarkRepository.insertIfAbsent(user.getNo(), tipNo, now);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("해당 꿀팁을 찾을 수 없습니다."); // tip_no FK 위반
+        }
+        if (inserted == 0) return;
+        eventPublisher.publishEvent(new BookmarkChangedEvent(tipNo, user.getNo(), 1, now));
+
         Tip tip = tipRepository.findById(tipNo)
                 .orElseThrow(() -> new IllegalArgumentException("해당 꿀팁을 찾을 수 없습니다."));
-
-        if (bookmarkRepository.existsByUserAndTip(user, tip)) return;
-
-        Bookmark bookmark = Bookmark.builder()
-                .user(user)
-                .tip(tip)
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        bookmarkRepository.save(bookmark);
         notifyTipOwnerOfBookmark(tip, user);
     }
 
@@ -51,8 +55,10 @@ public class BookmarkService {
         Tip tipToDelete = bookmark.getTip();
         User user = bookmark.getUser();
         storageTipRepository.deleteByTipAndUser(tipToDelete, user);
+        eventPublisher.publishEvent(new TipPlacementChangedEvent(tipToDelete.getNo()));
 
         bookmarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(new BookmarkChangedEvent(tipToDelete.getNo(), userNo, -1, bookmark.getCreatedAt()));
     }
 
     @Transactional
@@ -80,24 +86,16 @@ public class BookmarkService {
             }
         }
 
-        // 중복 북마크 확인 후 저장
-        if (!bookmarkRepository.existsByUserAndTip(user, tip)) {
-            Bookmark bookmark = Bookmark.builder()
-                    .user(user)
-                    .tip(tip)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            bookmarkRepository.save(bookmark);
+        // 북마크: 새로 추가된 경우에만 알림
+        LocalDateTime now = LocalDateTime.now();
+        if (bookmarkRepository.insertIfAbsent(userNo, tip.getNo(), now) > 0) {
+            eventPublisher.publishEvent(new BookmarkChangedEvent(tip.getNo(), userNo, 1, now));
             notifyTipOwnerOfBookmark(tip, user);
         }
 
-        // 중복 저장 확인 후 저장
-        if (!storageTipRepository.existsByStorageAndTip(storage, tip)) {
-            StorageTip storageTip = StorageTip.builder()
-                    .storage(storage)
-                    .tip(tip)
-                    .build();
-            storageTipRepository.save(storageTip);
+        // 보관함 저장: 이미 있으면 무시
+        if (storageTipRepository.insertIfAbsent(storage.getNo(), tip.getNo()) > 0) {
+            eventPublisher.publishEvent(new TipPlacementChangedEvent(tip.getNo()));
         }
     }
 
@@ -113,18 +111,11 @@ public class BookmarkService {
         );
         notificationRepository.save(notification);
 
-        // 저장 직후, 개인 큐 전송용 이벤트 발행 (AFTER_COMMIT에서 리스너가 처리)
+        // 같은 트랜잭션에서 개인 큐 전송을 아웃박스에 기록 (커밋 후 릴레이가 전달)
         String actorName = bookmarker.getNickname() != null ? bookmarker.getNickname() : bookmarker.getLoginId();
         String tipTitle  = tip.getTitle() != null ? tip.getTitle() : "제목 없음";
         String message   = actorName + "님이 당신의 꿀팁을 북마크했습니다: " + tipTitle;
 
-        eventPublisher.publishEvent(
-                new NotificationCreatedEvent(
-                        tipOwner.getNo(),         // targetUserId (Long)
-                        tip.getNo(),              // tipId (nullable 아님)
-                        message,                  // message
-                        Instant.now()             // createdAt
-                )
-        );
+        notificationOutboxWriter.append(tipOwner.getNo(), tip.getNo(), message);
     }
 }
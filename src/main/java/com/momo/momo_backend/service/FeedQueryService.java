@@ -0,0 +1,132 @@
+package com.momo.momo_backend.service;
+
+import com.momo.momo_backend.cache.TipSummaryCache;
+import com.momo.momo_backend.dto.CursorPage;
+import com.momo.momo_backend.dto.TipCursor;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.feed.FeedProperties;
+import com.momo.momo_backend.feed.HomeTimelineStore;
+import com.momo.momo_backend.feed.HomeTimelineStore.Entry;
+import com.momo.momo_backend.repository.FollowRepository;
+import com.momo.momo_backend.repository.TipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 팔로잉 홈 피드 조회.
+ * - 사용자 타임라인(Redis ZSET)에서 커서 이후 항목만 읽고, 팔로우하는 셀럽의 작성자 타임라인을 병합
+ * - 팁 정보는 요약 캐시에서 tip no 목록으로 한 번에 채움 (follow/tip/storage_tip 조인 없음, 비용은 페이지 크기에 비례)
+ * - 타임라인이 없으면(첫 조회, TTL 만료) 팔로잉 작성자의 최근 공개 팁으로 한 번 재구성
+ * - 삭제/비공개 전환된 팁은 타임라인에 남아 있어도 채울 때 걸러냄
+ */
+@Service
+public class FeedQueryService {
+
+    /** 같은 ms에 등록된 항목(커서 위치와 겹치는 항목)을 건너뛰고도 한 페이지를 채우기 위한 여유분 */
+    private static final int TIE_SLACK = 8;
+
+    private final HomeTimelineStore store;
+    private final TipRepository tipRepository;
+    private final FollowRepository followRepository;
+    private final TipSummaryCache tipSummaryCache;
+    private final FeedProperties props;
+    private final Counter rebuilt;
+
+    public FeedQueryService(HomeTimelineStore store, TipRepository tipRepository,
+                            FollowRepository followRepository, TipSummaryCache tipSummaryCache,
+                            FeedProperties props, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.tipRepository = tipRepository;
+        this.followRepository = followRepository;
+        this.tipSummaryCache = tipSummaryCache;
+        this.props = props;
+        this.rebuilt = meterRegistry.counter("feed.timeline.rebuilt");
+    }
+
+    public CursorPage<TipDto.DetailResponse> getHomeFeed(Long userNo, TipCursor cursor, int size) {
+        if (userNo == null) throw new IllegalArgumentException("userNo는 필수입니다.");
+        ensureUserTimeline(userNo);
+
+        double maxScore = cursor.isFirst() ? Double.MAX_VALUE : HomeTimelineStore.epochMs(cursor.createdAt());
+        int fetch = size + 1 + TIE_SLACK;
+
+        // 사용자 타임라인 + 셀럽 작성자 타임라인 병합 (tip no 기준 중복 제거)
+        Map<Long, Entry> merged = new HashMap<>();
+        List<Entry> own = store.readUser(userNo, maxScore, fetch);
+        own.forEach(e -> merged.put(e.tipNo(), e));
+        boolean exhausted = own.size() < fetch;
+        for (Long celebNo : followedCelebrities(userNo)) {
+            ensureAuthorTimeline(celebNo);
+            List<Entry> celeb = store.readAuthor(celebNo, maxScore, fetch);
+            celeb.forEach(e -> merged.putIfAbsent(e.tipNo(), e));
+            exhausted &= celeb.size() < fetch;
+        }
+
+        List<Entry> candidates = merged.values().stream()
+                .filter(e -> isAfter(e, cursor))
+                .sorted(Comparator.comparingLong(Entry::createdAtMs).thenComparingLong(Entry::tipNo).reversed())
+                .limit(fetch)
+                .toList();
+        if (candidates.isEmpty()) return CursorPage.last(List.of());
+
+        Map<Long, TipDto.DetailResponse> details = new HashMap<>();
+        tipSummaryCache.details(candidates.stream().map(Entry::tipNo).toList())
+                .forEach(d -> details.put(d.getNo(), d));
+
+        List<TipDto.DetailResponse> items = new ArrayList<>(size);
+        Entry last = null;
+        for (Entry e : candidates) {
+            TipDto.DetailResponse d = details.get(e.tipNo());
+            if (d == null || !Boolean.TRUE.equals(d.getIsPublic())) continue;
+            if (items.size() == size) return new CursorPage<>(items, cursorOf(last).encode());
+            items.add(d);
+            last = e;
+        }
+        // 걸러진 항목만 남았어도 뒤에 더 있으면 마지막으로 본 위치부터 이어서 읽게 함
+        if (exhausted && candidates.size() < fetch) return CursorPage.last(items);
+        return new CursorPage<>(items, cursorOf(candidates.get(candidates.size() - 1)).encode());
+    }
+
+    private void ensureUserTimeline(Long userNo) {
+        if (store.hasUserTimeline(userNo)) return;
+        store.replaceUserTimeline(userNo, tipRepository
+                .findFeedKeysByFollowerNo(userNo, PageRequest.of(0, props.getMaxEntries()))
+                .stream().map(Entry::of).toList());
+        rebuilt.increment();
+    }
+
+    private void ensureAuthorTimeline(Long authorNo) {
+        if (store.hasAuthorTimeline(authorNo)) return;
+        store.replaceAuthorTimeline(authorNo, tipRepository
+                .findFeedKeysByAuthorNo(authorNo, PageRequest.of(0, props.getAuthorEntries()))
+                .stream().map(Entry::of).toList());
+    }
+
+    private List<Long> followedCelebrities(Long userNo) {
+        List<Long> cached = store.cachedFollowedCelebrities(userNo);
+        if (cached != null) return cached;
+        List<Long> celebNos = store.celebrities().stream().map(Long::valueOf).toList();
+        List<Long> followed = celebNos.isEmpty() ? List.of() : followRepository.findFollowingNosIn(userNo, celebNos);
+        store.cacheFollowedCelebrities(userNo, followed);
+        return followed;
+    }
+
+    /** 정렬 (등록 시각 DESC, tip no DESC)에서 커서보다 뒤에 있는지 */
+    private static boolean isAfter(Entry e, TipCursor cursor) {
+        if (cursor.isFirst()) return true;
+        long at = HomeTimelineStore.epochMs(cursor.createdAt());
+        return e.createdAtMs() < at || (e.createdAtMs() == at && e.tipNo() < cursor.no());
+    }
+
+    private static TipCursor cursorOf(Entry e) {
+        LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(e.createdAtMs()), ZoneId.systemDefault());
+        return new TipCursor(null, at, e.tipNo());
+    }
+}
@@ -4,17 +4,16 @@ import com.momo.momo_backend.entity.Follow;
 import com.momo.momo_backend.entity.Notification;
 import com.momo.momo_backend.entity.User;
 import com.momo.momo_backend.enums.NotificationType;
+import com.momo.momo_backend.feed.FollowChangedEvent;
+import com.momo.momo_backend.notification.NotificationOutboxWriter;
 import com.momo.momo_backend.repository.FollowRepository;
 import com.momo.momo_backend.repository.NotificationRepository;
 import com.momo.momo_backend.repository.UserRepository;
-import com.momo.momo_backend.realtime.events.NotificationCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
-
 @Service
 @RequiredArgsConstructor
 public class FollowService {
@@ -22,7 +21,7 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
-
+    private final NotificationOutboxWriter notificationOutboxWriter;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -45,6 +44,7 @@ public class FollowService {
                 .following(following)
                 .build();
         followRepository.save(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getNo(), following.getNo(), true));
 
         // 알림: 나를 팔로우함 (관련 팁 없음 → null)
         Notification notification = Notification.of(
@@ -54,18 +54,11 @@ public class FollowService {
         );
         notificationRepository.save(notification);
 
-        // 저장 직후, 개인 큐 전송용 이벤트 발행
+        // 같은 트랜잭션에서 개인 큐 전송을 아웃박스에 기록 (커밋 후 릴레이가 전달)
         String actorName = follower.getNickname() != null ? follower.getNickname() : follower.getLoginId();
         String message   = actorName + "님이 당신을 팔로우했습니다.";
 
-        eventPublisher.publishEvent(
-                new NotificationCreatedEvent(
-                        following.getNo(),    // targetUserId
-                        null,                 // tipId 없음
-                        message,              // message
-                        Instant.now()         // createdAt
-                )
-        );
+        notificationOutboxWriter.append(following.getNo(), null, message); // tipId 없음
     }
 
     @Transactional
@@ -79,5 +72,6 @@ public class FollowService {
                 .orElseThrow(() -> new IllegalArgumentException("팔로우 관계가 존재하지 않습니다."));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getNo(), following.getNo(), false));
     }
 }
@@ -1,10 +1,12 @@
 package com.momo.momo_backend.service;
 
+import com.momo.momo_backend.cache.UserNicknameChangedEvent;
 import com.momo.momo_backend.dto.ProfileDto;
 import com.momo.momo_backend.entity.User;
 import com.momo.momo_backend.exception.ProfileImageUploadException;
 import com.momo.momo_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +19,7 @@ public class ProfileService {
 
     private final UserRepository userRepository;
     private final S3UploadService s3UploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 프로필 수정 메서드
     @Transactional
@@ -28,6 +31,10 @@ public class ProfileService {
             if (!user.getNickname().equals(nickname) && userRepository.findByNickname(nickname).isPresent()) {
                 throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
             }
+            if (!user.getNickname().equals(nickname)) {
+                // 커밋 후 작성자 닉네임이 담긴 꿀팁 요약 캐시 무효화
+                eventPublisher.publishEvent(new UserNicknameChangedEvent(userNo));
+            }
             user.setNickname(nickname);
         }
 
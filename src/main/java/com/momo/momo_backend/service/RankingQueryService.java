@@ -0,0 +1,91 @@
+package com.momo.momo_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.momo.momo_backend.cache.TagDictionary;
+import com.momo.momo_backend.cache.TipSummaryCache;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.ranking.RankingEngine;
+import com.momo.momo_backend.ranking.RankingProperties;
+import com.momo.momo_backend.repository.GroupMemberRepository;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/** RankingEngine 결과에 팁 정보를 채워 응답으로 변환 (같은 조건의 결과는 짧게 캐시) */
+@Service
+public class RankingQueryService {
+
+    private final RankingEngine rankingEngine;
+    private final TipSummaryCache tipSummaryCache;
+    private final GroupMemberRepository groupMemberRepository;
+    private final TagDictionary tagDictionary;
+    private final RankingProperties props;
+    private final Cache<String, List<TipDto.RankingResponse>> results;
+
+    public RankingQueryService(RankingEngine rankingEngine, TipSummaryCache tipSummaryCache,
+                               GroupMemberRepository groupMemberRepository, TagDictionary tagDictionary,
+                               RankingProperties props) {
+        this.rankingEngine = rankingEngine;
+        this.tipSummaryCache = tipSummaryCache;
+        this.groupMemberRepository = groupMemberRepository;
+        this.tagDictionary = tagDictionary;
+        this.props = props;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(props.getResultCacheTtl())
+                .build();
+    }
+
+    /**
+     * @param period  daily / weekly / monthly / all-time / trending (ranking.windows 설정에 따름)
+     * @param tagName 태그 리더보드 (선택)
+     * @param groupNo 그룹 리더보드 (선택, 그룹 멤버만 조회 가능)
+     */
+    @Transactional(readOnly = true)
+    public List<TipDto.RankingResponse> getRanking(String period, String tagName, Long groupNo,
+                                                   int limit, Long requesterNo) {
+        if (tagName != null && groupNo != null) {
+            throw new IllegalArgumentException("tag와 groupNo는 함께 지정할 수 없습니다.");
+        }
+        if (groupNo != null && (requesterNo == null
+                || !groupMemberRepository.existsByGroup_NoAndUser_No(groupNo, requesterNo))) {
+            throw new AccessDeniedException("그룹 멤버만 그룹 랭킹을 조회할 수 있습니다.");
+        }
+        int size = Math.max(1, Math.min(limit, props.getMaxLimit()));
+
+        RankingEngine.Scope scope;
+        if (StringUtils.hasText(tagName)) {
+            Long tagNo = tagDictionary.idOf(tagName.trim());
+            if (tagNo == null) return List.of(); // 존재하지 않는 태그
+            scope = new RankingEngine.Scope(tagNo, null);
+        } else {
+            scope = new RankingEngine.Scope(null, groupNo);
+        }
+
+        String key = period + "|" + scope.tagNo() + "|" + scope.groupNo() + "|" + size;
+        return results.get(key, k -> hydrate(rankingEngine.top(period, scope, size), scope));
+    }
+
+    // 순위 유지하며 팁/작성자/태그 채우기 (삭제된 팁, 전체/태그 범위에서 비공개로 바뀐 팁은 제외)
+    // 엔진 메타데이터는 다른 노드의 변경을 주기 갱신으로만 받으므로, 수정 시 무효화되는 요약 캐시로 공개 여부를 다시 확인
+    private List<TipDto.RankingResponse> hydrate(List<RankingEngine.Entry> entries, RankingEngine.Scope scope) {
+        if (entries.isEmpty()) return List.of();
+        List<Long> tipNos = entries.stream().map(RankingEngine.Entry::tipNo).toList();
+        Map<Long, TipSummaryCache.Summary> summaries = tipSummaryCache.getAll(tipNos);
+
+        List<TipDto.RankingResponse> ranking = new ArrayList<>(entries.size());
+        for (RankingEngine.Entry e : entries) {
+            TipSummaryCache.Summary s = summaries.get(e.tipNo());
+            if (s == null) continue;
+            if (scope.groupNo() == null && !Boolean.TRUE.equals(s.row().isPublic())) continue;
+            ranking.add(TipDto.RankingResponse.from(ranking.size() + 1, s.row(), e.score(), s.tags()));
+        }
+        return ranking;
+    }
+}
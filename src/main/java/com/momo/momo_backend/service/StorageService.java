@@ -8,7 +8,9 @@ import com.momo.momo_backend.repository.GroupMemberRepository;
 import com.momo.momo_backend.repository.GroupRepository;
 import com.momo.momo_backend.repository.StorageRepository;
 import com.momo.momo_backend.repository.UserRepository;
+import com.momo.momo_backend.search.StorageDeletedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class StorageService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String ERROR_MSG_USER_NOT_FOUND = "사용자가 존재하지 않습니다.";
     private static final String ERROR_MSG_STORAGE_NOT_FOUND = "보관함이 존재하지 않습니다.";
@@ -79,6 +82,7 @@ public class StorageService {
     }
 
     // 보관함 삭제
+    @Transactional
     public void delete(Long storageNo, Long loginUserNo) {
         Storage storage = storageRepository.findById(storageNo)
                 .orElseThrow(() -> new IllegalArgumentException(ERROR_MSG_STORAGE_NOT_FOUND));
@@ -98,5 +102,6 @@ public class StorageService {
         }
 
         storageRepository.delete(storage);
+        eventPublisher.publishEvent(new StorageDeletedEvent(storageNo));
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.momo.momo_backend.service;
+
+import com.momo.momo_backend.cache.TagDictionary;
+import com.momo.momo_backend.entity.Tag;
+import com.momo.momo_backend.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+
+/**
+ * 태그 이름 → Tag 일괄 변환 및 TipTag 일괄 연결.
+ * 태그 개수와 관계없이 조회 1회 + (없으면) 생성 1회 + 연결 배치 1회로 처리한다.
+ * 이미 아는 태그는 TagDictionary에서 바로 꺼내 조회도 생략한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagResolutionService {
+
+    // 동시에 같은 새 태그가 들어와도 unique(name) 충돌 없이 한쪽만 생성됨
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO tag (name)
+            SELECT UNNEST(?::varchar[])
+            ON CONFLICT (name) DO NOTHING
+            RETURNING no, name
+            """;
+
+    private static final String INSERT_TIP_TAG_SQL = "INSERT INTO tip_tag (tip_no, tag_no) VALUES (?, ?)";
+
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 태그 이름 목록을 Tag로 변환 (공백/중복 제거, 입력 순서 유지, 없는 태그는 생성) */
+    public List<Tag> resolve(Collection<String> names) {
+        if (names == null) return Collections.emptyList();
+        List<String> distinct = names.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+        if (distinct.isEmpty()) return Collections.emptyList();
+
+        Map<String, Tag> byName = new HashMap<>();
+        for (String name : distinct) {
+            Long id = tagDictionary.idOf(name);
+            if (id != null) byName.put(name, Tag.builder().no(id).name(name).build());
+        }
+
+        List<String> unknown = missingOf(distinct, byName);
+        if (!unknown.isEmpty()) {
+            tagRepository.findByNameIn(unknown).forEach(t -> {
+                byName.put(t.getName(), t);
+                tagDictionary.remember(t);
+            });
+        }
+
+        List<String> missing = missingOf(distinct, byName);
+        if (!missing.isEmpty()) {
+            List<Tag> created = insertMissing(missing);
+            created.forEach(t -> byName.put(t.getName(), t));
+            tagDictionary.registerAfterCommit(created);
+
+            // 다른 트랜잭션이 먼저 만든 태그는 RETURNING에 나오지 않으므로 한 번 더 조회
+            List<String> createdElsewhere = missingOf(missing, byName);
+            if (!createdElsewhere.isEmpty()) {
+                tagRepository.findByNameIn(createdElsewhere).forEach(t -> byName.put(t.getName(), t));
+            }
+        }
+
+        return distinct.stream()
+                .map(byName::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /** 팁-태그 연결을 JDBC 배치 INSERT로 저장 */
+    public void link(Long tipNo, List<Tag> tags) {
+        if (tags.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_TIP_TAG_SQL, tags, tags.size(), (ps, tag) -> {
+            ps.setLong(1, tipNo);
+            ps.setLong(2, tag.getNo());
+        });
+    }
+
+    private List<Tag> insertMissing(List<String> missing) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_MISSING_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", missing.toArray()));
+            return ps;
+        }, (rs, rowNum) -> Tag.builder()
+                .no(rs.getLong("no"))
+                .name(rs.getString("name"))
+                .build());
+    }
+
+    private List<String> missingOf(List<String> names, Map<String, Tag> found) {
+        return names.stream().filter(n -> !found.containsKey(n)).toList();
+    }
+}
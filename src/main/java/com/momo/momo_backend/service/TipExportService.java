@@ -0,0 +1,171 @@
+package com.momo.momo_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.momo.momo_backend.cache.TagDictionary;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 꿀팁 목록 스트리밍 응답 (JSON 배열 / NDJSON).
+ * - PostgreSQL 드라이버는 트랜잭션 안 + fetchSize일 때만 서버 커서로 나눠 읽으므로 읽기 전용 트랜잭션에서 조회
+ * - 엔티티/목록을 만들지 않고 행마다 DetailResponse로 바꿔 바로 기록 (메모리는 결과 크기와 무관)
+ * - 태그 이름은 tag_no 배열을 TagDictionary로 해석 (행마다 추가 쿼리 없음)
+ * - 내려받는 동안 커넥션과 트랜잭션을 잡고 있으므로 동시 건수를 제한하고(초과 시 429) 전체 시간에 상한을 둠
+ */
+@Slf4j
+@Service
+public class TipExportService {
+
+    public enum Format { JSON, NDJSON }
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 200;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT t.no, t.title, t.content_summary, t.url, t.user_no, u.nickname, t.thumbnail_url,
+                   t.is_public, t.created_at, t.updated_at,
+                   ARRAY(SELECT tt.tag_no FROM tip_tag tt WHERE tt.tip_no = t.no) AS tag_nos
+            FROM tip t
+              JOIN users u ON u.no = t.user_no
+            """;
+    private static final String SELECT_PUBLIC_REGISTERED = SELECT_COLUMNS + """
+            WHERE t.is_public = true
+              AND EXISTS (SELECT 1 FROM storage_tip st WHERE st.tip_no = t.no)
+            ORDER BY t.created_at DESC, t.no DESC
+            """;
+    private static final String SELECT_REGISTERED_BY_USER = SELECT_COLUMNS + """
+            WHERE t.user_no = ?
+              AND EXISTS (SELECT 1 FROM storage_tip st WHERE st.tip_no = t.no)
+            ORDER BY t.created_at DESC, t.no DESC
+            """;
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final TagDictionary tagDictionary;
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public TipExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper, TagDictionary tagDictionary,
+                            @Value("${tip.export.max-concurrent:4}") int maxConcurrent,
+                            @Value("${tip.export.timeout-seconds:300}") int timeoutSeconds) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setTimeout(timeoutSeconds); // 문장 단위 제한, 행 사이 지연은 stream()의 마감 시각으로
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.objectMapper = objectMapper;
+        // 기본값(FLUSH_AFTER_WRITE_VALUE)이면 행마다 flush되어 청크가 행 단위로 쪼개짐 → flush는 아래 간격으로만
+        this.rowWriter = objectMapper.writerFor(TipDto.DetailResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.tagDictionary = tagDictionary;
+    }
+
+    /** 등록된 공개 꿀팁 전체 (최신순) */
+    public StreamingResponseBody streamPublicTips(Format format) {
+        return limited(out -> stream(out, format, SELECT_PUBLIC_REGISTERED));
+    }
+
+    /** 사용자가 등록한 꿀팁 전체 (최신순) */
+    public StreamingResponseBody streamTipsByUser(Long userNo, Format format) {
+        if (userNo == null) throw new IllegalArgumentException("userNo는 필수입니다.");
+        return limited(out -> stream(out, format, SELECT_REGISTERED_BY_USER, userNo));
+    }
+
+    /** 응답 전(요청 스레드)에 자리를 잡아 한도를 넘으면 바로 429, 스트리밍이 끝나면 반납 */
+    private StreamingResponseBody limited(StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("내보내기 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void stream(OutputStream out, Format format, String sql, Object... args) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+            if (format == Format.NDJSON) gen.setRootValueSeparator(null); // 줄 앞에 기본 구분자(공백)가 붙지 않도록
+            if (format == Format.JSON) gen.writeStartArray();
+
+            int[] written = {0};
+            long deadline = System.nanoTime() + timeoutNanos;
+            readOnlyTx.executeWithoutResult(status -> cursorJdbcTemplate.query(sql, rs -> {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new UncheckedIOException(new IOException("내보내기 시간 초과")); // 느린 클라이언트가 커넥션을 오래 잡지 않도록
+                }
+                try {
+                    rowWriter.writeValue(gen, toResponse(rs));
+                    if (format == Format.NDJSON) gen.writeRaw('\n');
+                    // 첫 행은 바로 내보내 첫 바이트 지연을 줄이고, 이후는 일정 간격으로 flush
+                    if (++written[0] == 1 || written[0] % FLUSH_EVERY == 0) gen.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 → 커서 조회 중단
+                }
+            }, args));
+
+            if (format == Format.JSON) gen.writeEndArray();
+            gen.flush();
+        } catch (UncheckedIOException e) {
+            log.debug("꿀팁 스트리밍 중단: {}", e.getCause().getMessage());
+        }
+    }
+
+    private TipDto.DetailResponse toResponse(ResultSet rs) throws SQLException {
+        return TipDto.DetailResponse.builder()
+                .no(rs.getLong("no"))
+                .title(rs.getString("title"))
+                .contentSummary(rs.getString("content_summary"))
+                .url(rs.getString("url"))
+                .userNo(rs.getLong("user_no"))
+                .nickname(rs.getString("nickname"))
+                .thumbnailUrl(rs.getString("thumbnail_url"))
+                .isPublic(rs.getBoolean("is_public"))
+                .tags(tagNames(rs.getArray("tag_nos")))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .build();
+    }
+
+    private List<String> tagNames(Array array) throws SQLException {
+        if (array == null) return List.of();
+        Object[] values = (Object[]) array.getArray();
+        return tagDictionary.namesOf(Arrays.stream(values).map(v -> ((Number) v).longValue()).toList());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+}
@@ -0,0 +1,214 @@
+package com.momo.momo_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.momo_backend.ai.AiProperties;
+import com.momo.momo_backend.ai.AiSummaryCache;
+import com.momo.momo_backend.ai.AiTaskPollScheduler;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.dto.ai.AiResultResponseDto;
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import com.momo.momo_backend.realtime.cluster.UserSessionRegistry;
+import com.momo.momo_backend.realtime.support.EventPayloadFactory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 꿀팁 생성(미리보기) 작업 관리.
+ * 요청 스레드는 AI 작업 등록을 예약만 하고 즉시 작업 핸들을 돌려받는다.
+ * 완료 결과는 상태 조회 API 또는 개인 STOMP 큐로 전달한다.
+ * 작업 상태는 Redis(AI:GENERATION:{taskId})에도 기록해 다른 노드에서도 조회할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TipGenerationService {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+
+    // 완료된 작업 결과 보관 시간
+    private static final long RESULT_RETENTION_MS = 10 * 60_000L;
+    private static final String REDIS_KEY_PREFIX = "AI:GENERATION:";
+
+    private final AiSummaryCache aiSummaryCache;
+    private final AiTaskPollScheduler aiTaskPollScheduler;
+    private final SimpMessagingTemplate messaging;
+    private final EventPayloadFactory payloadFactory;
+    private final RealtimeProperties props;
+    private final UserSessionRegistry sessions;
+    private final AiProperties aiProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    // 생성 작업 시작 (AI 작업 등록은 워커 풀에서 진행, 즉시 반환)
+    public Generation start(TipDto.CreateRequest request, Long userNo) {
+        // 같은 URL은 캐시 결과를 재사용하거나, 진행 중인 AI 작업에 합류
+        CompletableFuture<TipDto.CreateResponse> future = aiSummaryCache
+                .getOrLoad(request.getUrl(), () -> aiTaskPollScheduler.submit(request.getUrl()))
+                .thenApply(r -> toCreateResponse(request, r));
+
+        Generation generation = new Generation(UUID.randomUUID().toString(), userNo, future);
+        generations.put(generation.getTaskId(), generation);
+        if (!future.isDone()) {
+            // 진행 중 상태는 AI 작업 타임아웃까지 유지 (완료 시 결과로 덮어씀)
+            writeRedis(generation, Duration.ofMillis(aiProperties.getPoll().getTimeoutMs() + RESULT_RETENTION_MS));
+        }
+        future.whenComplete((res, ex) -> onFinished(generation, res, ex));
+
+        log.info("꿀팁 생성 작업 등록 taskId={}, userNo={}, cached={}", generation.getTaskId(), userNo, future.isDone());
+        return generation;
+    }
+
+    // 생성 작업 상태 조회 (이 노드에 없으면 Redis 기록 조회)
+    public TipDto.GenerationStatusResponse getStatus(String taskId, Long userNo) {
+        Generation generation = generations.get(taskId);
+        Snapshot snapshot = (generation != null) ? generation.toSnapshot() : readRedis(taskId);
+        if (snapshot == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 생성 작업입니다.");
+        }
+        // 비로그인 요청이나 작성자가 기록되지 않은 작업은 조회 불가
+        if (userNo == null || !userNo.equals(snapshot.getUserNo())) {
+            throw new AccessDeniedException("본인의 생성 작업만 조회할 수 있습니다.");
+        }
+        return snapshot.getStatus();
+    }
+
+    // 보관 시간이 지난 완료 작업 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictFinished() {
+        long threshold = System.currentTimeMillis() - RESULT_RETENTION_MS;
+        generations.values().removeIf(g -> g.getFuture().isDone() && g.getFinishedAt() < threshold);
+    }
+
+    private void onFinished(Generation generation, TipDto.CreateResponse result, Throwable error) {
+        generation.markFinished();
+        writeRedis(generation, Duration.ofMillis(RESULT_RETENTION_MS));
+        if (generation.getUserNo() == null) return;
+        if (!sessions.isOnline(String.valueOf(generation.getUserNo()))) return; // 결과는 상태 조회 API로 확인
+
+        Object evt = (error == null)
+                ? payloadFactory.tipGenerated(generation.getTaskId(), result)
+                : payloadFactory.tipGenerationFailed(generation.getTaskId(), Generation.errorMessage(error));
+        try {
+            messaging.convertAndSendToUser(
+                    String.valueOf(generation.getUserNo()),
+                    props.getTopics().getUserGenerationQueue(),
+                    evt
+            );
+        } catch (MessagingException e) {
+            // 푸시 실패해도 상태 조회 API로 결과 확인 가능
+            log.warn("꿀팁 생성 결과 푸시 실패 taskId={}, cause={}", generation.getTaskId(), e.getMessage());
+        }
+    }
+
+    private Snapshot readRedis(String taskId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(REDIS_KEY_PREFIX + taskId);
+            return (json != null) ? objectMapper.readValue(json, Snapshot.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("꿀팁 생성 상태(Redis) 조회 실패 taskId={}, cause={}", taskId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Generation generation, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                    REDIS_KEY_PREFIX + generation.getTaskId(),
+                    objectMapper.writeValueAsString(generation.toSnapshot()),
+                    ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 이 노드의 조회는 로컬 핸들로 계속 가능
+            log.warn("꿀팁 생성 상태(Redis) 저장 실패 taskId={}, cause={}", generation.getTaskId(), e.getMessage());
+        }
+    }
+
+    private TipDto.CreateResponse toCreateResponse(TipDto.CreateRequest request, AiResultResponseDto.ResultData r) {
+        String finalTitle = StringUtils.hasText(request.getTitle()) ? request.getTitle() : r.getTitle();
+        List<String> finalTags = (request.getTags() != null && !request.getTags().isEmpty())
+                ? request.getTags() : r.getTags();
+        return TipDto.CreateResponse.builder()
+                .url(request.getUrl())
+                .title(finalTitle)
+                .tags(finalTags)
+                .summary(r.getSummary())
+                .thumbnailImageUrl(r.getThumbnailUrl())
+                .build();
+    }
+
+    /** 진행 중/완료된 생성 작업 핸들 */
+    public static class Generation {
+        private final String taskId;
+        private final Long userNo;
+        private final CompletableFuture<TipDto.CreateResponse> future;
+        private volatile long finishedAt;
+
+        Generation(String taskId, Long userNo, CompletableFuture<TipDto.CreateResponse> future) {
+            this.taskId = taskId;
+            this.userNo = userNo;
+            this.future = future;
+        }
+
+        public String getTaskId() { return taskId; }
+        public Long getUserNo() { return userNo; }
+        public CompletableFuture<TipDto.CreateResponse> getFuture() { return future; }
+        long getFinishedAt() { return finishedAt; }
+
+        void markFinished() { this.finishedAt = System.currentTimeMillis(); }
+
+        public TipDto.GenerationStatusResponse toStatusResponse() {
+            TipDto.GenerationStatusResponse.GenerationStatusResponseBuilder b =
+                    TipDto.GenerationStatusResponse.builder().taskId(taskId);
+            if (!future.isDone()) {
+                return b.status(STATUS_PENDING).build();
+            }
+            try {
+                return b.status(STATUS_SUCCESS).result(future.join()).build();
+            } catch (CompletionException e) {
+                return b.status(STATUS_FAILED).message(errorMessage(e)).build();
+            }
+        }
+
+        Snapshot toSnapshot() {
+            return new Snapshot(userNo, toStatusResponse());
+        }
+
+        static String errorMessage(Throwable error) {
+            Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                    ? error.getCause() : error;
+            return cause.getMessage();
+        }
+    }
+
+    /** Redis에 기록하는 작업 상태 (작성자 + 상태 응답) */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Snapshot {
+        private Long userNo;
+        private TipDto.GenerationStatusResponse status;
+    }
+}
@@ -1,9 +1,15 @@
 package com.momo.momo_backend.service;
 
-import com.momo.momo_backend.entity.Tip;
+import com.momo.momo_backend.cache.TipSummaryCache;
+import com.momo.momo_backend.dto.CursorPage;
+import com.momo.momo_backend.dto.TipCursor;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.dto.TipRow;
 import com.momo.momo_backend.repository.TipRepository;
 import com.momo.momo_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,42 +22,59 @@ public class TipQueryService {
 
     private final TipRepository tipRepository;
     private final UserRepository userRepository; // 사용자 정보 조회를 위해 추가
+    private final TipReadModel tipReadModel;
+    private final TipSummaryCache tipSummaryCache;
 
     /** 사용자가 작성한 팁 조회 (등록된 팁만) */
     @Transactional(readOnly = true)
-    public List<Tip> getTipsByUser(Long userNo) {
+    public CursorPage<TipDto.DetailResponse> getTipsByUser(Long userNo, TipCursor cursor, int size) {
         if (userNo == null) throw new IllegalArgumentException("userNo는 필수입니다.");
-        return tipRepository.findRegisteredTipsByUserNo(userNo); // 등록된 팁만 조회
+        return toPage(tipRepository.findRegisteredTipsByUserNoBefore(
+                userNo, cursor.createdAt(), cursor.no(), pageOf(size)), size); // 등록된 팁만 조회
     }
 
     /** 팁 목록 조회 (공개된 팁만, 등록된 팁만) */
     @Transactional(readOnly = true)
-    public List<Tip> getAllPublicTips() {
-        return tipRepository.findAllPublicRegisteredTipsOrderByCreatedAtDesc(); // 등록된 공개 팁만 조회
+    public CursorPage<TipDto.DetailResponse> getAllPublicTips(TipCursor cursor, int size) {
+        return toPage(tipRepository.findPublicRegisteredTipsBefore(
+                cursor.createdAt(), cursor.no(), pageOf(size)), size); // 등록된 공개 팁만 조회
     }
 
     /** 특정 보관함에 속한 팁 조회 (등록된 팁만) */
     @Transactional(readOnly = true)
-    public List<Tip> getTipsByStorage(Long storageNo) {
+    public CursorPage<TipDto.DetailResponse> getTipsByStorage(Long storageNo, TipCursor cursor, int size) {
         if (storageNo == null) throw new IllegalArgumentException("storageNo는 필수입니다.");
-        return tipRepository.findTipsByStorageId(storageNo);
+        return toPage(tipRepository.findTipsByStorageIdBefore(
+                storageNo, cursor.createdAt(), cursor.no(), pageOf(size)), size);
     }
 
-    /** 상세 팁 조회 (등록 여부 무관) */
-    @Transactional(readOnly = true)
-    public Tip getTipDetails(Long tipNo) {
+    /** 상세 팁 조회 (등록 여부 무관, 요약 캐시 적중 시 DB를 거치지 않음) */
+    public TipDto.DetailResponse getTipDetails(Long tipNo) {
         if (tipNo == null) throw new IllegalArgumentException("tipNo는 필수입니다.");
-        return tipRepository.findById(tipNo)
+        return tipSummaryCache.detail(tipNo)
                 .orElseThrow(() -> new IllegalArgumentException("해당 꿀팁이 존재하지 않습니다."));
     }
 
     /** 특정 사용자의 공개 꿀팁 목록 조회 */
     @Transactional(readOnly = true)
-    public List<Tip> getPublicTipsByUser(Long userNo) {
+    public CursorPage<TipDto.DetailResponse> getPublicTipsByUser(Long userNo, TipCursor cursor, int size) {
         if (userNo == null) throw new IllegalArgumentException("userNo는 필수입니다.");
         if (!userRepository.existsById(userNo)) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
-        return tipRepository.findAllByUser_NoAndIsPublicTrueOrderByCreatedAtDesc(userNo);
+        return toPage(tipRepository.findPublicTipsByUserNoBefore(
+                userNo, cursor.createdAt(), cursor.no(), pageOf(size)), size);
+    }
+
+    // 한 건 더 읽어 다음 페이지 유무 판단
+    private static Pageable pageOf(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    // 행(팁 + 작성자) 한 번, 태그 한 번 — 엔티티 로딩 없음
+    private CursorPage<TipDto.DetailResponse> toPage(List<TipRow> fetched, int size) {
+        if (fetched.size() <= size) return CursorPage.last(tipReadModel.details(fetched));
+        List<TipRow> rows = fetched.subList(0, size);
+        return new CursorPage<>(tipReadModel.details(rows), TipCursor.of(rows.get(size - 1)).encode());
     }
 }
@@ -0,0 +1,58 @@
+package com.momo.momo_backend.service;
+
+import com.momo.momo_backend.cache.TagDictionary;
+import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.dto.TipRow;
+import com.momo.momo_backend.repository.TipRepository;
+import com.momo.momo_backend.repository.TipTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 꿀팁 조회 화면 공통 읽기 모델.
+ * TipRow(팁 + 작성자 한 번의 SELECT) + 태그(tip no IN 한 번의 SELECT, 이름은 사전)로
+ * 엔티티 로딩 없이 응답을 만든다. 목록 크기와 무관하게 쿼리는 최대 두 번.
+ * tip no로 조회하는 화면(상세/검색/랭킹/피드)은 TipSummaryCache를 거쳐 여기로 온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TipReadModel {
+
+    private final TipRepository tipRepository;
+    private final TipTagRepository tipTagRepository;
+    private final TagDictionary tagDictionary;
+
+    /** 행 목록 → 상세 응답 (순서 유지) */
+    public List<TipDto.DetailResponse> details(List<TipRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        Map<Long, List<String>> tags = tagNamesByTipNo(rows.stream().map(TipRow::no).toList());
+        return rows.stream()
+                .map(row -> TipDto.DetailResponse.from(row, tags.getOrDefault(row.no(), List.of())))
+                .toList();
+    }
+
+    public Map<Long, TipRow> rowsByNo(Collection<Long> tipNos) {
+        if (tipNos.isEmpty()) return Map.of();
+        return tipRepository.findRowsByNoIn(tipNos).stream()
+                .collect(Collectors.toMap(TipRow::no, Function.identity()));
+    }
+
+    public List<Long> tipNosByAuthor(Long userNo) {
+        return tipRepository.findNosByUserNo(userNo);
+    }
+
+    /** tip no → 태그 이름 목록 (태그 없는 팁은 키 없음) */
+    public Map<Long, List<String>> tagNamesByTipNo(Collection<Long> tipNos) {
+        if (tipNos.isEmpty()) return Map.of();
+        Map<Long, List<Long>> tagNos = new HashMap<>();
+        tipTagRepository.findTagNosByTipNoIn(tipNos)
+                .forEach(tt -> tagNos.computeIfAbsent(tt.getTipNo(), k -> new ArrayList<>()).add(tt.getTagNo()));
+        Map<Long, List<String>> names = new HashMap<>(tagNos.size() * 2);
+        tagNos.forEach((tipNo, nos) -> names.put(tipNo, tagDictionary.namesOf(nos)));
+        return names;
+    }
+}
@@ -1,17 +1,27 @@
 package com.momo.momo_backend.service;
 
+import com.momo.momo_backend.cache.TipSummaryCache;
+import com.momo.momo_backend.dto.CursorPage;
+import com.momo.momo_backend.dto.TipCursor;
 import com.momo.momo_backend.dto.TipDto;
+import com.momo.momo_backend.dto.TipRow;
 import com.momo.momo_backend.entity.*;
 import com.momo.momo_backend.repository.GroupMemberRepository;
 import com.momo.momo_backend.repository.GroupRepository;
 import com.momo.momo_backend.repository.StorageRepository;
 import com.momo.momo_backend.repository.UserRepository;
+import com.momo.momo_backend.search.SearchProperties;
+import com.momo.momo_backend.search.SearchTokenizer;
+import com.momo.momo_backend.search.TipInvertedIndex;
+import com.momo.momo_backend.search.TipSearchIndexInitializer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,44 +36,71 @@ public class TipSearchService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final TipReadModel tipReadModel;
+    private final TipSummaryCache tipSummaryCache;
+    private final TipInvertedIndex tipInvertedIndex;
+    private final SearchProperties searchProperties;
 
-    private static final String ORDER_BY_CREATED_AT_DESC = " ORDER BY t.createdAt DESC";
+    // 키셋: (createdAt, no) 내림차순에서 커서 다음부터 (첫 페이지는 TipCursor.FIRST)
+    private static final String KEYSET_ORDER =
+            " AND t.createdAt <= :cursorAt AND (t.createdAt < :cursorAt OR t.no < :cursorNo)"
+                    + " ORDER BY t.createdAt DESC, t.no DESC";
+
+    // 전문 검색(native) 범위 조건: JOIN + DISTINCT 대신 EXISTS
+    private static final String SCOPE_PUBLIC =
+            "t.is_public = true AND EXISTS (SELECT 1 FROM storage_tip st WHERE st.tip_no = t.no)";
+    private static final String SCOPE_MY =
+            "EXISTS (SELECT 1 FROM storage_tip st JOIN storage s ON s.no = st.storage_no "
+                    + "WHERE st.tip_no = t.no AND s.user_no = :userNo)";
+    private static final String SCOPE_GROUP =
+            "EXISTS (SELECT 1 FROM storage_tip st JOIN storage s ON s.no = st.storage_no "
+                    + "WHERE st.tip_no = t.no AND s.group_no = :groupNo)";
+    private static final String SCOPE_STORAGE =
+            "EXISTS (SELECT 1 FROM storage_tip st WHERE st.tip_no = t.no AND st.storage_no = :storageNo)";
 
     // 전체 꿀팁 검색(public 꿀팁만)
-    public List<TipDto.DetailResponse> searchPublic(String keyword, String mode, int page, int size) {
-        String base = """
-            SELECT DISTINCT t
+    public CursorPage<TipDto.DetailResponse> searchPublic(String keyword, String mode, TipCursor cursor, int size) {
+        String base = TipRow.SELECT + """
             FROM Tip t
-              JOIN t.storageTips st
-              JOIN FETCH t.user u
+              JOIN t.user u
             WHERE t.isPublic = true
+              AND EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t)
         """;
         var params = new HashMap<String, Object>();
-        String jpql = appendKeywordClause(base, "t", keyword, mode, params)
-                + ORDER_BY_CREATED_AT_DESC; // 상수 사용
-        return queryTips(jpql, params, page, size);
+        List<SearchTokenizer.QueryTerm> terms = SearchTokenizer.queryTerms(keyword);
+        if (!terms.isEmpty()) {
+            if (useInvertedIndex(cursor)) {
+                return searchByIndex(TipInvertedIndex.Scope.publicTips(), terms, mode, cursor, size);
+            }
+            return searchByTokens(SCOPE_PUBLIC, params, terms, mode, cursor, size);
+        }
+        String jpql = base + KEYSET_ORDER; // 상수 사용
+        return queryTips(jpql, params, cursor, size);
     }
 
     // 내 꿀팁 검색
-    public List<TipDto.DetailResponse> searchMy(Long userNo, String keyword, String mode, int page, int size) {
-        String base = """
-            SELECT DISTINCT t
+    public CursorPage<TipDto.DetailResponse> searchMy(Long userNo, String keyword, String mode, TipCursor cursor, int size) {
+        String base = TipRow.SELECT + """
             FROM Tip t
-              JOIN t.storageTips st
-              JOIN st.storage s
-              JOIN FETCH t.user u
-            WHERE s.user.no = :userNo
+              JOIN t.user u
+            WHERE EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t AND st.storage.user.no = :userNo)
         """;
         var params = new HashMap<String, Object>();
         params.put("userNo", userNo);
-        String jpql = appendKeywordClause(base, "t", keyword, mode, params)
-                + ORDER_BY_CREATED_AT_DESC; // 상수 사용
-        return queryTips(jpql, params, page, size);
+        List<SearchTokenizer.QueryTerm> terms = SearchTokenizer.queryTerms(keyword);
+        if (!terms.isEmpty()) {
+            if (useInvertedIndex(cursor)) {
+                return searchByIndex(TipInvertedIndex.Scope.my(userNo), terms, mode, cursor, size);
+            }
+            return searchByTokens(SCOPE_MY, params, terms, mode, cursor, size);
+        }
+        String jpql = base + KEYSET_ORDER; // 상수 사용
+        return queryTips(jpql, params, cursor, size);
     }
 
     // 그룹 꿀팁 검색
-    public List<TipDto.DetailResponse> searchGroup(Long groupNo, Long requestingUserNo,
-                                                   String keyword, String mode, int page, int size) {
+    public CursorPage<TipDto.DetailResponse> searchGroup(Long groupNo, Long requestingUserNo,
+                                                               String keyword, String mode, TipCursor cursor, int size) {
 
         Group group = groupRepository.findById(groupNo)
                 .orElseThrow(() -> new IllegalArgumentException("그룹이 존재하지 않습니다."));
@@ -74,24 +111,27 @@ public class TipSearchService {
             throw new AccessDeniedException("그룹 멤버만 그룹 검색이 가능합니다.");
         }
 
-        String base = """
-            SELECT DISTINCT t
+        String base = TipRow.SELECT + """
             FROM Tip t
-              JOIN t.storageTips st
-              JOIN st.storage s
-              JOIN FETCH t.user u
-            WHERE s.group.no = :groupNo
+              JOIN t.user u
+            WHERE EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t AND st.storage.group.no = :groupNo)
         """;
         var params = new HashMap<String, Object>();
         params.put("groupNo", groupNo);
-        String jpql = appendKeywordClause(base, "t", keyword, mode, params)
-                + ORDER_BY_CREATED_AT_DESC; // 상수 사용
-        return queryTips(jpql, params, page, size);
+        List<SearchTokenizer.QueryTerm> terms = SearchTokenizer.queryTerms(keyword);
+        if (!terms.isEmpty()) {
+            if (useInvertedIndex(cursor)) {
+                return searchByIndex(TipInvertedIndex.Scope.group(groupNo), terms, mode, cursor, size);
+            }
+            return searchByTokens(SCOPE_GROUP, params, terms, mode, cursor, size);
+        }
+        String jpql = base + KEYSET_ORDER; // 상수 사용
+        return queryTips(jpql, params, cursor, size);
     }
 
     // 보관함 꿀팁 검색
-    public List<TipDto.DetailResponse> searchStorage(Long storageNo, Long requestingUserNo,
-                                                     String keyword, String mode, int page, int size) {
+    public CursorPage<TipDto.DetailResponse> searchStorage(Long storageNo, Long requestingUserNo,
+                                                                 String keyword, String mode, TipCursor cursor, int size) {
 
         Storage storage = storageRepository.findById(storageNo)
                 .orElseThrow(() -> new IllegalArgumentException("보관함이 존재하지 않습니다."));
@@ -108,69 +148,117 @@ public class TipSearchService {
             }
         }
 
-        String base = """
-            SELECT DISTINCT t
-            FROM StorageTip st
-              JOIN st.tip t
-              JOIN FETCH t.user u
-            WHERE st.storage.no = :storageNo
+        String base = TipRow.SELECT + """
+            FROM Tip t
+              JOIN t.user u
+            WHERE EXISTS (SELECT 1 FROM StorageTip st WHERE st.tip = t AND st.storage.no = :storageNo)
         """;
         var params = new HashMap<String, Object>();
         params.put("storageNo", storageNo);
-        String jpql = appendKeywordClause(base, "t", keyword, mode, params)
-                + ORDER_BY_CREATED_AT_DESC; // 상수 사용
-        return queryTips(jpql, params, page, size);
+        List<SearchTokenizer.QueryTerm> terms = SearchTokenizer.queryTerms(keyword);
+        if (!terms.isEmpty()) {
+            if (useInvertedIndex(cursor)) {
+                return searchByIndex(TipInvertedIndex.Scope.storage(storageNo), terms, mode, cursor, size);
+            }
+            return searchByTokens(SCOPE_STORAGE, params, terms, mode, cursor, size);
+        }
+        String jpql = base + KEYSET_ORDER; // 상수 사용
+        return queryTips(jpql, params, cursor, size);
+    }
+
+    // 공통 조회 메서드 (키셋 페이지, 한 건 더 읽어 다음 페이지 유무 판단)
+    private CursorPage<TipDto.DetailResponse> queryTips(String jpql, Map<String, Object> params,
+                                                        TipCursor cursor, int size) {
+        var q = em.createQuery(jpql, TipRow.class);
+        params.forEach(q::setParameter);
+        q.setParameter("cursorAt", cursor.createdAt());
+        q.setParameter("cursorNo", cursor.no());
+        q.setMaxResults(size + 1);
+        List<TipRow> rows = q.getResultList();
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = TipCursor.of(rows.get(size - 1)).encode();
+        }
+        return new CursorPage<>(tipReadModel.details(rows), next);
     }
 
-    // 공통 조회 메서드
-    private List<TipDto.DetailResponse> queryTips(String jpql, Map<String, Object> params, int page, int size) {
-        var q = em.createQuery(jpql, Tip.class);
+    // 전문 검색: 범위 조건 + tsquery 일치, 관련도(ts_rank) → 최신순 → no 정렬
+    // 키셋은 (ts_rank, created_at, no) 행 비교 (점수를 행마다 계산하는 비용은 남지만 OFFSET 스캔은 없음)
+    private CursorPage<TipDto.DetailResponse> searchByTokens(String scope, Map<String, Object> params,
+                                                             List<SearchTokenizer.QueryTerm> terms, String mode,
+                                                             TipCursor cursor, int size) {
+        String rank = "ts_rank(" + TipSearchIndexInitializer.TS_VECTOR + ", to_tsquery('simple', :q))";
+        StringBuilder sql = new StringBuilder("SELECT t.no, t.created_at, " + rank + " AS score FROM tip t WHERE ")
+                .append(scope)
+                .append(" AND ").append(TipSearchIndexInitializer.TS_VECTOR).append(" @@ to_tsquery('simple', :q)");
+        // 역색인이 발급한 커서(score = 일치 단어 수)는 이어받을 수 없음: 조용히 첫 페이지로 돌리면 중복이 보이므로 거절
+        if (!cursor.isFirst() && cursor.engine() != TipCursor.Engine.DB) throw new IllegalArgumentException(TipCursor.INVALID);
+        boolean after = !cursor.isFirst();
+        if (after) {
+            sql.append(" AND (").append(rank).append(", t.created_at, t.no)")
+                    .append(" < (CAST(:cursorScore AS real), :cursorAt, :cursorNo)");
+        }
+        sql.append(" ORDER BY score DESC, t.created_at DESC, t.no DESC");
+
+        var q = em.createNativeQuery(sql.toString());
         params.forEach(q::setParameter);
-        if (page >= 0 && size > 0) {
-            q.setFirstResult(page * size);
-            q.setMaxResults(size);
+        q.setParameter("q", toTsQuery(terms, "AND".equalsIgnoreCase(mode)));
+        if (after) {
+            q.setParameter("cursorScore", cursor.score());
+            q.setParameter("cursorAt", cursor.createdAt());
+            q.setParameter("cursorNo", cursor.no());
         }
-        List<Tip> tips = q.getResultList();
-        return tips.stream()
-                .map(TipDto.DetailResponse::from)
-                .toList(); // SonarQube: toList()로 변경
+        q.setMaxResults(size + 1);
+
+        List<TipCursor> rows = ((List<?>) q.getResultList()).stream()
+                .map(o -> (Object[]) o)
+                .map(r -> new TipCursor(((Number) r[2]).floatValue(), toLocalDateTime(r[1]), ((Number) r[0]).longValue(),
+                        TipCursor.Engine.DB))
+                .toList();
+        return hydrate(rows, size);
     }
 
-    // 키워드 조건절 추가
-    private String appendKeywordClause(String base, String alias,
-                                       String keyword, String mode,
-                                       Map<String, Object> params) {
-        if (keyword == null || keyword.isBlank()) return base;
-
-        String[] words = Arrays.stream(keyword.trim().split("\\s+"))
-                .filter(s -> !s.isBlank()).distinct().toArray(String[]::new);
-        if (words.length == 0) return base;
-
-        boolean andMode = "AND".equalsIgnoreCase(mode);
-
-        StringBuilder sb = new StringBuilder(base);
-        sb.append(" AND (");
-
-        for (int i = 0; i < words.length; i++) {
-            if (i > 0) sb.append(andMode ? " AND " : " OR ");
-            String p = "w" + i;
-            sb.append("(")
-                    .append("LOWER(COALESCE(").append(alias).append(".title,'')) LIKE :").append(p).append(" ESCAPE '\\' ")
-                    .append("OR LOWER(COALESCE(").append(alias).append(".contentSummary,'')) LIKE :").append(p).append(" ESCAPE '\\' ")
-                    .append("OR LOWER(COALESCE(").append(alias).append(".url,'')) LIKE :").append(p).append(" ESCAPE '\\'")
-                    .append(")");
-            params.put(p, toLikeParam(words[i]));
+    // 역색인 검색: 범위/정렬/키셋까지 메모리에서 처리하고 최종 페이지만 DB에서 조회
+    private CursorPage<TipDto.DetailResponse> searchByIndex(TipInvertedIndex.Scope scope,
+                                                            List<SearchTokenizer.QueryTerm> terms, String mode,
+                                                            TipCursor cursor, int size) {
+        List<TipCursor> rows = tipInvertedIndex.search(terms, "AND".equalsIgnoreCase(mode), scope,
+                cursor.isFirst() ? null : cursor, size + 1);
+        return hydrate(rows, size);
+    }
+
+    // search.engine=memory이고 역색인 구성이 끝났을 때만 (그 전에는 DB 전문 검색)
+    // 페이지 도중 역색인이 준비돼도 DB가 발급한 커서는 DB 경로로 이어감 (반대로 역색인 커서가 DB 경로로 오면 400)
+    private boolean useInvertedIndex(TipCursor cursor) {
+        return searchProperties.isMemoryEngine() && tipInvertedIndex.isReady()
+                && (cursor.isFirst() || cursor.engine() == TipCursor.Engine.MEMORY);
+    }
+
+    // 결과 순서를 유지한 채 본문 조회 (요약 캐시, 없는 팁만 TipRow + 태그 일괄). rows는 size + 1건까지
+    private CursorPage<TipDto.DetailResponse> hydrate(List<TipCursor> rows, int size) {
+        if (rows.isEmpty()) return CursorPage.last(List.of());
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = rows.get(size - 1).encode();
         }
-        sb.append(")");
-        return sb.toString();
+        List<Long> tipNos = rows.stream().map(TipCursor::no).toList();
+        return new CursorPage<>(tipSummaryCache.details(tipNos), next);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        return (LocalDateTime) value;
     }
 
-    // LIKE 검색용 파라미터 변환 (소문자, 앞뒤 % 추가, 특수문자 이스케이프)
-    private String toLikeParam(String raw) {
-        String escaped = raw.toLowerCase()
-                .replace("\\", "\\\\")
-                .replace("%", "\\%")
-                .replace("_", "\\_");
-        return "%" + escaped + "%";
+    // 단어 내부 토큰은 모두 일치(&), 단어끼리는 mode(AND → &, OR → |). 한글 외 토큰은 접두어 일치
+    private static String toTsQuery(List<SearchTokenizer.QueryTerm> terms, boolean andMode) {
+        return terms.stream()
+                .map(term -> term.tokens().stream()
+                        .map(token -> "'" + token.replace("'", "''") + "'" + (term.prefix() ? ":*" : ""))
+                        .collect(Collectors.joining(" & ", "(", ")")))
+                .collect(Collectors.joining(andMode ? " & " : " | "));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.momo.momo_backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TipCursorTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    void searchCursorRoundTripsWithEngine() {
+        TipCursor memory = new TipCursor(2f, AT, 42L, TipCursor.Engine.MEMORY);
+        TipCursor db = new TipCursor(0.0607927f, AT, 42L, TipCursor.Engine.DB);
+
+        assertThat(TipCursor.decode(memory.encode())).isEqualTo(memory);
+        assertThat(TipCursor.decode(db.encode())).isEqualTo(db);
+    }
+
+    @Test
+    void listCursorRoundTripsWithoutScoreOrEngine() {
+        TipCursor cursor = new TipCursor(null, AT, 7L);
+
+        TipCursor decoded = TipCursor.decode(cursor.encode());
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.engine()).isNull();
+    }
+
+    @Test
+    void tokenIsUrlSafeWithoutPadding() {
+        String token = new TipCursor(1f, AT, Long.MAX_VALUE - 1, TipCursor.Engine.MEMORY).encode();
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void tokenWithoutEngineDecodesAsUnknownEngine() {
+        // 엔진 구분 전에 발급된 토큰
+        String legacy = raw("1.0|" + AT + "|42");
+        assertThat(TipCursor.decode(legacy)).isEqualTo(new TipCursor(1f, AT, 42L, null));
+    }
+
+    @Test
+    void blankTokenIsFirstPage() {
+        assertThat(TipCursor.decode(null)).isEqualTo(TipCursor.FIRST);
+        assertThat(TipCursor.decode(" ")).isEqualTo(TipCursor.FIRST);
+        assertThat(TipCursor.FIRST.isFirst()).isTrue();
+        assertThat(new TipCursor(null, AT, 1L).isFirst()).isFalse();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        for (String token : new String[]{
+                "***",
+                raw("1.0|" + AT),
+                raw("x|" + AT + "|42"),
+                raw("1.0|not-a-date|42"),
+                raw("1.0|" + AT + "|42|ELASTIC"),
+                raw("1.0|" + AT + "|42|MEMORY|extra")}) {
+            assertThatThrownBy(() -> TipCursor.decode(token))
+                    .as(token)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
+    }
+
+    @Test
+    void clampSizeKeepsPageWithinBounds() {
+        assertThat(TipCursor.clampSize(0)).isEqualTo(TipCursor.DEFAULT_SIZE);
+        assertThat(TipCursor.clampSize(-5)).isEqualTo(TipCursor.DEFAULT_SIZE);
+        assertThat(TipCursor.clampSize(30)).isEqualTo(30);
+        assertThat(TipCursor.clampSize(1_000)).isEqualTo(TipCursor.MAX_SIZE);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
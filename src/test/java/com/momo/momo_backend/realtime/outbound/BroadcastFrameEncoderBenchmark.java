@@ -0,0 +1,119 @@
+package com.momo.momo_backend.realtime.outbound;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momo.momo_backend.realtime.dto.EventTypes;
+import com.momo.momo_backend.realtime.dto.TipEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /topic/feed 브로드캐스트 1건을 구독자 10k명에게 인코딩하는 비용 비교 (기본 StompEncoder vs BroadcastFrameEncoder).
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * 구독자별 헤더는 SimpleBroker처럼 미리 만들어 두고, 이벤트마다 JSON 직렬화 한 번 + 구독자 수만큼 encode를 측정한다.
+ */
+@Tag("benchmark")
+class BroadcastFrameEncoderBenchmark {
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int EVENTS = 50;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final String DESTINATION = "/topic/feed";
+
+    private record Result(String name, double nsPerFrame, double bytesPerFrame) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void feedBroadcastTo10kSubscribers() throws Exception {
+        List<MessageHeaders> subscribers = new ArrayList<>(SUBSCRIBERS);
+        for (int i = 0; i < SUBSCRIBERS; i++) subscribers.add(headersFor(i));
+
+        StompEncoder baselineEncoder = new StompEncoder();
+        BroadcastFrameEncoder sharedEncoder = new BroadcastFrameEncoder("/topic/", new SimpleMeterRegistry());
+
+        // 같은 프레임을 만드는지 먼저 확인 (헤더 순서는 다를 수 있으므로 디코딩해서 비교)
+        byte[] sample = objectMapper.writeValueAsBytes(event(1));
+        for (int i : new int[]{0, 1, SUBSCRIBERS - 1}) {
+            Message<byte[]> expected = decode(baselineEncoder.encode(subscribers.get(i), sample));
+            Message<byte[]> actual = decode(sharedEncoder.encode(subscribers.get(i), sample));
+            assertThat(StompHeaderAccessor.wrap(actual).toNativeHeaderMap())
+                    .isEqualTo(StompHeaderAccessor.wrap(expected).toNativeHeaderMap());
+            assertThat(actual.getPayload()).isEqualTo(expected.getPayload());
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run("warmup", baselineEncoder, subscribers);
+            run("warmup", sharedEncoder, subscribers);
+        }
+        Result baseline = run("StompEncoder", baselineEncoder, subscribers);
+        Result shared = run("BroadcastFrameEncoder", sharedEncoder, subscribers);
+
+        System.out.printf("payload=%d bytes, subscribers=%d, events=%d%n", sample.length, SUBSCRIBERS, EVENTS);
+        for (Result r : List.of(baseline, shared)) {
+            System.out.printf("%-22s %8.1f ns/frame %8.1f B/frame%n", r.name(), r.nsPerFrame(), r.bytesPerFrame());
+        }
+        assertThat(shared.bytesPerFrame()).isLessThan(baseline.bytesPerFrame());
+    }
+
+    private Result run(String name, StompEncoder encoder, List<MessageHeaders> subscribers) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int e = 0; e < EVENTS; e++) {
+            byte[] payload = objectMapper.writeValueAsBytes(event(e)); // 이벤트당 한 번
+            for (MessageHeaders headers : subscribers) sink += encoder.encode(headers, payload).length;
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertThat(sink).isPositive();
+        double frames = (double) EVENTS * subscribers.size();
+        return new Result(name, elapsed / frames, allocated / frames);
+    }
+
+    /** SimpleBroker가 구독자마다 만드는 MESSAGE 헤더 */
+    private static MessageHeaders headersFor(int subscriber) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setSubscriptionId("sub-" + subscriber);
+        accessor.setMessageId("session" + subscriber + "-" + subscriber);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private static TipEvent event(long tipId) {
+        return TipEvent.builder()
+                .type(EventTypes.TIP_NEW)
+                .tipId(tipId)
+                .title("자취생 전기요금 아끼는 법 " + tipId)
+                .author("momo-user")
+                .tags(List.of("자취", "절약", "생활팁"))
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .thumbnailUrl("https://cdn.example.com/thumbnails/" + tipId + ".png")
+                .v("v1")
+                .build();
+    }
+
+    private static Message<byte[]> decode(byte[] frame) {
+        List<Message<byte[]>> messages = new StompDecoder().decode(ByteBuffer.wrap(frame));
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+}
@@ -0,0 +1,194 @@
+package com.momo.momo_backend.realtime.outbound;
+
+import com.momo.momo_backend.realtime.RealtimeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 송신 버퍼의 순서/교체/한도/종료 동작 검증.
+ * "hold"로 시작하는 메시지는 release 전까지 송신 스레드를 붙잡아, 그동안 들어온 메시지가 큐에 쌓이게 한다.
+ */
+class SessionOutboundBufferTest {
+
+    private static final String SESSION_ID = "s1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RealtimeProperties props = new RealtimeProperties();
+    private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private WebSocketSession session;
+    private WebSocketHandler tracker;
+    private SessionOutboundBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        props.getOutbound().setWorkers(2);
+        props.getOutbound().setMaxQueuedMessages(3);
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (buffer != null) buffer.shutdown();
+    }
+
+    @Test
+    void deliversInOfferOrder() throws Exception {
+        connect();
+        for (int i = 1; i <= 5; i++) {
+            assertThat(buffer.preSend(frame("sub-1", "m" + i, null), null)).isNull();
+        }
+
+        assertThat(received(5)).containsExactly("m1", "m2", "m3", "m4", "m5");
+    }
+
+    @Test
+    void coalescesSameKeyInPlaceWithinSubscription() throws Exception {
+        connect();
+        hold();
+        buffer.preSend(frame("sub-1", "b", "tip:update:1"), null);
+        buffer.preSend(frame("sub-1", "c", null), null);
+        buffer.preSend(frame("sub-1", "d", "tip:update:1"), null); // b 자리에서 교체
+        buffer.preSend(frame("sub-2", "e", "tip:update:1"), null); // 다른 구독은 별도
+        release.countDown();
+
+        assertThat(received(4)).containsExactly("hold", "d", "c", "e");
+        assertThat(meterRegistry.counter("realtime.outbound.coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsOldestWhenQueueIsFull() throws Exception {
+        connect();
+        hold();
+        for (String body : new String[]{"b", "c", "d", "e"}) {
+            buffer.preSend(frame("sub-1", body, null), null);
+        }
+        release.countDown();
+
+        assertThat(received(4)).containsExactly("hold", "c", "d", "e");
+        assertThat(meterRegistry.counter("realtime.outbound.dropped").count()).isEqualTo(1);
+        verify(session, never()).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void terminatesSessionWhenQueueIsFullUnderTerminatePolicy() throws Exception {
+        props.getOutbound().setOverflowPolicy(RealtimeProperties.Outbound.OverflowPolicy.TERMINATE);
+        connect();
+        hold();
+        for (String body : new String[]{"b", "c", "d", "e"}) {
+            buffer.preSend(frame("sub-1", body, null), null);
+        }
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(buffer.preSend(frame("sub-1", "late", null), null)).isNull(); // 종료 중인 세션은 버림
+        release.countDown();
+        assertThat(received(1)).containsExactly("hold");
+        assertThat(sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void closesSessionWhoseSendExceedsTimeLimit() throws Exception {
+        props.getOutbound().setSendTimeLimitMs(100);
+        connect();
+        hold(); // 풀리지 않는 소켓 쓰기
+
+        verify(session, timeout(2_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("realtime.outbound.send_timeouts").count()).isEqualTo(1);
+    }
+
+    @Test
+    void closedSessionIsNotBufferedAgain() throws Exception {
+        connect();
+        tracker.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        Message<byte[]> late = frame("sub-1", "late", null);
+        assertThat(buffer.preSend(late, null)).isSameAs(late); // 기존 경로로 그대로
+        assertThat(meterRegistry.get("realtime.outbound.queued").gauge().value()).isZero();
+        assertThat(meterRegistry.get("realtime.outbound.max_depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void nonMessageFramesPassThrough() throws Exception {
+        connect();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT_ACK);
+        accessor.setSessionId(SESSION_ID);
+        Message<byte[]> ack = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThat(buffer.preSend(ack, null)).isSameAs(ack);
+    }
+
+    private void connect() throws Exception {
+        MessageHandler handler = message -> {
+            String body = new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+            if (body.startsWith("hold")) {
+                holding.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(body);
+        };
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("subProtocolWebSocketHandler", handler);
+        buffer = new SessionOutboundBuffer(props, beanFactory, meterRegistry);
+        tracker = buffer.sessionTracker().decorate(mock(WebSocketHandler.class));
+        tracker.afterConnectionEstablished(session);
+    }
+
+    /** 송신 스레드가 hold 메시지를 보내는 중인 상태로 만듦 */
+    private void hold() throws InterruptedException {
+        buffer.preSend(frame("sub-1", "hold", null), null);
+        assertThat(holding.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private List<String> received(int count) throws InterruptedException {
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String body = sent.poll(2, TimeUnit.SECONDS);
+            if (body == null) break;
+            bodies.add(body);
+        }
+        return bodies;
+    }
+
+    private static Message<byte[]> frame(String subscriptionId, String body, String coalesceKey) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/feed");
+        if (coalesceKey != null) accessor.setHeader(SessionOutboundBuffer.COALESCE_KEY_HEADER, coalesceKey);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,72 @@
+package com.momo.momo_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingsTest {
+
+    @Test
+    void andKeepsOnlyCommonIds() {
+        assertThat(Postings.and(new int[]{1, 3, 5, 7, 9}, new int[]{3, 4, 9, 12})).containsExactly(3, 9);
+        assertThat(Postings.and(new int[]{2, 4}, new int[]{1, 3, 5})).isEmpty();
+        assertThat(Postings.and(Postings.EMPTY, new int[]{1, 2})).isEmpty();
+    }
+
+    @Test
+    void andIsSymmetric() {
+        int[] shorter = {5, 50};
+        int[] longer = {1, 5, 10, 20, 50, 60};
+        assertThat(Postings.and(shorter, longer)).containsExactly(Postings.and(longer, shorter));
+    }
+
+    @Test
+    void orMergesTwoListsWithoutDuplicates() {
+        assertThat(Postings.or(List.of(new int[]{1, 4, 6}, new int[]{2, 4, 8}))).containsExactly(1, 2, 4, 6, 8);
+    }
+
+    @Test
+    void orCollectsManyLists() {
+        int[] merged = Postings.or(List.of(new int[]{9}, new int[]{1, 9}, new int[]{3, 5}, Postings.EMPTY));
+        assertThat(merged).containsExactly(1, 3, 5, 9);
+    }
+
+    @Test
+    void orOfNothingIsEmpty() {
+        assertThat(Postings.or(List.of())).isEmpty();
+        assertThat(Postings.or(List.of(new int[]{4, 7}))).containsExactly(4, 7);
+    }
+
+    @Test
+    void withInsertsInOrderAndCopies() {
+        int[] original = {2, 6};
+        assertThat(Postings.with(original, 4)).containsExactly(2, 4, 6);
+        assertThat(Postings.with(original, 1)).containsExactly(1, 2, 6);
+        assertThat(Postings.with(original, 9)).containsExactly(2, 6, 9);
+        assertThat(original).containsExactly(2, 6); // copy-on-write
+    }
+
+    @Test
+    void withExistingIdReturnsSameArray() {
+        int[] original = {2, 6};
+        assertThat(Postings.with(original, 6)).isSameAs(original);
+    }
+
+    @Test
+    void withoutRemovesAndCopies() {
+        int[] original = {2, 4, 6};
+        assertThat(Postings.without(original, 4)).containsExactly(2, 6);
+        assertThat(Postings.without(original, 5)).isSameAs(original);
+        assertThat(Postings.without(new int[]{3}, 3)).isSameAs(Postings.EMPTY);
+        assertThat(original).containsExactly(2, 4, 6);
+    }
+
+    @Test
+    void containsUsesSortedOrder() {
+        assertThat(Postings.contains(new int[]{1, 5, 9}, 5)).isTrue();
+        assertThat(Postings.contains(new int[]{1, 5, 9}, 6)).isFalse();
+        assertThat(Postings.contains(Postings.EMPTY, 1)).isFalse();
+    }
+}
@@ -0,0 +1,58 @@
+package com.momo.momo_backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    void hangulIsIndexedAsUnigramsAndBigrams() {
+        assertThat(SearchTokenizer.indexTokens("자취생")).isEqualTo("자 자취 취 취생 생");
+    }
+
+    @Test
+    void otherWordsAreLowercasedAndKeptWhole() {
+        assertThat(SearchTokenizer.indexTokens("Spring-Boot 3.5")).isEqualTo("spring boot 3 5");
+    }
+
+    @Test
+    void fieldsAreNormalizedAndDeduplicated() {
+        // 전각 문자는 NFKC로 반각이 되고, 필드 간 중복 토큰은 한 번만
+        assertThat(SearchTokenizer.indexTokens("ＪＡＶＡ 꿀팁", null, " ", "java 팁")).isEqualTo("java 꿀 꿀팁 팁");
+    }
+
+    @Test
+    void mixedScriptsSplitIntoRuns() {
+        assertThat(SearchTokenizer.indexTokens("자취room")).isEqualTo("자 자취 취 room");
+    }
+
+    @Test
+    void hangulQueryUsesBigrams() {
+        assertThat(SearchTokenizer.queryTerms("자취생"))
+                .containsExactly(new SearchTokenizer.QueryTerm(List.of("자취", "취생"), false));
+    }
+
+    @Test
+    void singleHangulSyllableUsesUnigram() {
+        assertThat(SearchTokenizer.queryTerms("꿀"))
+                .containsExactly(new SearchTokenizer.QueryTerm(List.of("꿀"), false));
+    }
+
+    @Test
+    void otherQueryWordsArePrefixes() {
+        assertThat(SearchTokenizer.queryTerms("  Spr  자취 "))
+                .containsExactly(
+                        new SearchTokenizer.QueryTerm(List.of("spr"), true),
+                        new SearchTokenizer.QueryTerm(List.of("자취"), false));
+    }
+
+    @Test
+    void blankQueryHasNoTerms() {
+        assertThat(SearchTokenizer.queryTerms(null)).isEmpty();
+        assertThat(SearchTokenizer.queryTerms("   ")).isEmpty();
+        assertThat(SearchTokenizer.queryTerms("!?")).isEmpty();
+    }
+}
@@ -0,0 +1,270 @@
+package com.momo.momo_backend.search;
+
+import com.momo.momo_backend.dto.TipCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 역색인 조회/증분 갱신 검증. DB는 tip/storage_tip 두 질의만 흉내 내는 JdbcTemplate으로 대신한다.
+ * 갱신 메서드는 writer 스레드 대신 테스트 스레드에서 직접 호출한다.
+ */
+class TipInvertedIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private final FakeTips db = new FakeTips();
+    private TipInvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        db.tip(1, "spring boot 입문", true, DAY.plusDays(1));
+        db.tip(2, "spring security", true, DAY.plusDays(2));
+        db.tip(3, "boot camp 후기", false, DAY.plusDays(3));
+        db.tip(4, "springfield 여행", true, DAY.plusDays(3));
+        db.tip(5, "spring data", true, DAY.plusDays(4)); // 보관함에 없음 → 공개 범위 제외
+        db.place(1, 10, 100, 0);
+        db.place(2, 10, 100, 0);
+        db.place(3, 20, 200, 7);
+        db.place(4, 20, 200, 7);
+
+        SearchProperties props = new SearchProperties();
+        props.setEngine("memory");
+        props.setIndexLoadBatchSize(2); // 여러 배치로 나눠 읽는 경로까지
+        index = new TipInvertedIndex(db, new StringRedisTemplate(), props, new NoopListenerContainer(),
+                new SimpleMeterRegistry());
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void prefixMatchesEveryTermStartingWithTheWord() {
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    void andModeRequiresEveryWord() {
+        assertThat(nos(search("spring boot", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(1L);
+        assertThat(nos(search("spring camp", true, TipInvertedIndex.Scope.publicTips()))).isEmpty();
+    }
+
+    @Test
+    void orModeRanksByMatchedWordsThenRecency() {
+        List<TipCursor> hits = search("spring boot", false, TipInvertedIndex.Scope.publicTips());
+
+        assertThat(nos(hits)).containsExactly(1L, 4L, 2L); // 3은 비공개
+        assertThat(hits.get(0).score()).isEqualTo(2f);
+        assertThat(hits.get(1).score()).isEqualTo(1f);
+    }
+
+    @Test
+    void hangulQueryMatchesBigrams() {
+        assertThat(nos(search("입문", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(1L);
+        assertThat(nos(search("여행 후기", false, TipInvertedIndex.Scope.group(7)))).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void scopesFilterByPlacement() {
+        assertThat(nos(search("boot", true, TipInvertedIndex.Scope.my(200)))).containsExactly(3L);
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.my(100)))).containsExactly(2L, 1L);
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.group(7)))).containsExactly(4L);
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.storage(10)))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void reindexReplacesChangedTerms() {
+        db.tip(2, "kotlin coroutine", true, DAY.plusDays(2));
+        index.reindex(2);
+
+        assertThat(nos(search("security", true, TipInvertedIndex.Scope.publicTips()))).isEmpty();
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(4L, 1L);
+        assertThat(nos(search("kot", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(2L);
+    }
+
+    @Test
+    void reindexPicksUpVisibilityAndPlacementChanges() {
+        db.tip(3, "boot camp 후기", true, DAY.plusDays(3));
+        index.reindex(3);
+        db.place(5, 10, 100, 0);
+        index.reindex(5);
+
+        assertThat(nos(search("boot", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(3L, 1L);
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(5L, 4L, 2L, 1L);
+    }
+
+    @Test
+    void reindexOfMissingTipRemovesIt() {
+        db.delete(1);
+        index.reindex(1);
+
+        assertThat(nos(search("boot", true, TipInvertedIndex.Scope.my(100)))).isEmpty();
+        assertThat(nos(search("입문", true, TipInvertedIndex.Scope.publicTips()))).isEmpty();
+    }
+
+    @Test
+    void removeDropsTipFromEveryTerm() {
+        index.remove(4);
+
+        assertThat(nos(search("spring", false, TipInvertedIndex.Scope.publicTips()))).containsExactly(2L, 1L);
+        assertThat(nos(search("여행", true, TipInvertedIndex.Scope.group(7)))).isEmpty();
+    }
+
+    @Test
+    void removeStorageDropsOnlyThatPlacement() {
+        index.removeStorage(20);
+
+        assertThat(nos(search("spring", true, TipInvertedIndex.Scope.publicTips()))).containsExactly(2L, 1L);
+        assertThat(nos(search("boot", true, TipInvertedIndex.Scope.group(7)))).isEmpty();
+        assertThat(nos(search("boot", true, TipInvertedIndex.Scope.storage(10)))).containsExactly(1L);
+    }
+
+    @Test
+    void cursorPagesThroughTiesWithoutGapsOrDuplicates() {
+        // 점수와 등록 시각이 모두 같으면 no 내림차순
+        for (long no = 11; no <= 17; no++) {
+            db.tip(no, "tie", true, DAY);
+            db.place(no, 30, 300, 0);
+            index.reindex(no);
+        }
+        db.tip(18, "tie tie", true, DAY.minusDays(1));
+        db.place(18, 30, 300, 0);
+        index.reindex(18);
+
+        List<Long> seen = new ArrayList<>();
+        TipCursor after = null;
+        for (int page = 0; page < 10; page++) {
+            List<TipCursor> hits = index.search(SearchTokenizer.queryTerms("tie"), true,
+                    TipInvertedIndex.Scope.storage(30), after, 3);
+            if (hits.isEmpty()) break;
+            seen.addAll(nos(hits));
+            after = TipCursor.decode(hits.get(hits.size() - 1).encode()); // 클라이언트 왕복
+        }
+
+        assertThat(seen).containsExactly(17L, 16L, 15L, 14L, 13L, 12L, 11L, 18L);
+    }
+
+    @Test
+    void issuedCursorsAreMarkedAsMemory() {
+        assertThat(search("spring", true, TipInvertedIndex.Scope.publicTips()))
+                .allSatisfy(c -> assertThat(c.engine()).isEqualTo(TipCursor.Engine.MEMORY));
+    }
+
+    @Test
+    void databaseCursorIsRejected() {
+        // ts_rank 점수(1 미만)는 일치 단어 수로 읽을 수 없고, 첫 페이지로 돌리면 클라이언트에 중복이 보임
+        TipCursor fromDb = new TipCursor(0.0607927f, DAY.plusDays(2), 2L, TipCursor.Engine.DB);
+
+        assertThatThrownBy(() -> index.search(SearchTokenizer.queryTerms("spring"), true,
+                TipInvertedIndex.Scope.publicTips(), fromDb, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(TipCursor.INVALID);
+    }
+
+    private List<TipCursor> search(String keyword, boolean andMode, TipInvertedIndex.Scope scope) {
+        return index.search(SearchTokenizer.queryTerms(keyword), andMode, scope, null, 20);
+    }
+
+    private static List<Long> nos(List<TipCursor> hits) {
+        return hits.stream().map(TipCursor::no).toList();
+    }
+
+    /** tip / storage_tip 조회만 메모리 데이터로 응답 */
+    private static final class FakeTips extends JdbcTemplate {
+        private final TreeMap<Long, Map<Object, Object>> tips = new TreeMap<>();
+        private final List<Map<Object, Object>> placements = new ArrayList<>();
+
+        void tip(long no, String title, boolean isPublic, LocalDateTime createdAt) {
+            Map<Object, Object> row = new HashMap<>();
+            row.put("no", no);
+            row.put("search_tokens", null); // 저장 토큰이 없으면 제목/요약/URL로 계산
+            row.put("title", title);
+            row.put("is_public", isPublic);
+            row.put("created_at", Timestamp.valueOf(createdAt));
+            tips.put(no, row);
+        }
+
+        void place(long tipNo, long storageNo, long userNo, long groupNo) {
+            placements.add(Map.of(1, tipNo, 2, storageNo, 3, userNo, 4, groupNo));
+        }
+
+        void delete(long no) {
+            tips.remove(no);
+            placements.removeIf(p -> p.get(1).equals(no));
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            long no = ((Number) args[0]).longValue();
+            List<Map<Object, Object>> rows = sql.contains("no = ?")
+                    ? (tips.containsKey(no) ? List.of(tips.get(no)) : List.of())
+                    : tips.tailMap(no, false).values().stream().limit(((Number) args[1]).longValue()).toList();
+            List<T> mapped = new ArrayList<>();
+            try {
+                for (Map<Object, Object> row : rows) mapped.add(rowMapper.mapRow(resultSet(row), mapped.size()));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return mapped;
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            long from = ((Number) args[0]).longValue();
+            long to = ((Number) args[1]).longValue();
+            try {
+                for (Map<Object, Object> p : placements) {
+                    long tipNo = (Long) p.get(1);
+                    if (tipNo >= from && tipNo <= to) rch.processRow(resultSet(p));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static ResultSet resultSet(Map<Object, Object> columns) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> {
+                        Object value = args == null ? null : columns.get(args[0]);
+                        return switch (method.getName()) {
+                            case "getLong" -> value == null ? 0L : value;
+                            case "getBoolean" -> Boolean.TRUE.equals(value);
+                            case "getString", "getTimestamp" -> value;
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        };
+                    });
+        }
+    }
+
+    /** Redis 연결 없이 구독 등록만 무시 */
+    private static final class NoopListenerContainer extends RedisMessageListenerContainer {
+        @Override
+        public void addMessageListener(MessageListener listener, Topic topic) {
+        }
+    }
+}